@@ -0,0 +1,32 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealerBenchmark {
+
+    @Param({"STAND", "HIT"})
+    public Soft17Rule soft17Rule;
+
+    private Dealer dealer;
+
+    @Setup
+    public void setUp() {
+        dealer = new Dealer(soft17Rule);
+        dealer.setDealersHand(new Hand(Card.of(CardType.ACE_OF_CLUBS), Card.of(CardType.SIX_OF_HEARTS)));
+    }
+
+    @Benchmark
+    public boolean mustDraw() {
+        return dealer.mustDraw();
+    }
+}
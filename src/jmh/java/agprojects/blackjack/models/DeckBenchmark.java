@@ -0,0 +1,41 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeckBenchmark {
+
+    @Param({"1", "6", "8"})
+    public int numberOfDecks;
+
+    private Deck deck;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck(numberOfDecks, Deck.DEFAULT_PENETRATION);
+    }
+
+    @Benchmark
+    public Deck newDeck() {
+        return new Deck(numberOfDecks, Deck.DEFAULT_PENETRATION);
+    }
+
+    /**
+     * The shoe is reshuffled once the cut card comes out, so the reshuffles are part of the measured cost.
+     */
+    @Benchmark
+    public Card getCard() {
+        if (deck.isCutCardReached()) {
+            deck.reshuffle();
+        }
+        return deck.getCard();
+    }
+}
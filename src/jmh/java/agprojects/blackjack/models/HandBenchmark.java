@@ -0,0 +1,48 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandBenchmark {
+
+    private Hand softHand;
+
+    private Hand hardHand;
+
+    @Setup
+    public void setUp() {
+        softHand = new Hand(Card.of(CardType.ACE_OF_CLUBS), Card.of(CardType.SIX_OF_HEARTS));
+        hardHand = new Hand(Card.of(CardType.TEN_OF_SPADES), Card.of(CardType.SIX_OF_DIAMONDS), Card.of(CardType.FIVE_OF_CLUBS));
+    }
+
+    @Benchmark
+    public boolean evaluateSoftHand() {
+        softHand.evaluateHand();
+        return softHand.isFinished();
+    }
+
+    @Benchmark
+    public boolean evaluateHardHand() {
+        hardHand.evaluateHand();
+        return hardHand.isFinished();
+    }
+
+    @Benchmark
+    public String getHandValue() {
+        return softHand.getHandValue();
+    }
+
+    @Benchmark
+    public Hand buildHand() {
+        return new Hand(Card.of(CardType.ACE_OF_CLUBS), Card.of(CardType.SIX_OF_HEARTS), Card.of(CardType.NINE_OF_SPADES));
+    }
+}
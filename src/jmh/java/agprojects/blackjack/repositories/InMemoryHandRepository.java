@@ -0,0 +1,35 @@
+package agprojects.blackjack.repositories;
+
+import agprojects.blackjack.models.Hand;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Stand-in for the JPA repository of hands - saving a hand only gives it the next id, like the pooled sequence does.
+ */
+public final class InMemoryHandRepository {
+
+    private InMemoryHandRepository() {
+    }
+
+    public static HandRepository create() {
+        int[] nextHandId = {1};
+        return (HandRepository) Proxy.newProxyInstance(HandRepository.class.getClassLoader(),
+                new Class<?>[]{HandRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save":
+                            Hand saved = (Hand) args[0];
+                            saved.setHandId(nextHandId[0]++);
+                            return saved;
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "InMemoryHandRepository";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
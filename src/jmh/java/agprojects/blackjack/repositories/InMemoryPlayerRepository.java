@@ -0,0 +1,63 @@
+package agprojects.blackjack.repositories;
+
+import agprojects.blackjack.models.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Stand-in for the JPA repository, so the services can be benchmarked without a database.
+ * Only the methods the services call are supported.
+ */
+public final class InMemoryPlayerRepository {
+
+    private InMemoryPlayerRepository() {
+    }
+
+    /**
+     * @return a repository that keeps the players in a map ordered by player id.
+     */
+    public static PlayerRepository create() {
+        Map<Integer, Player> players = new TreeMap<>();
+        return (PlayerRepository) Proxy.newProxyInstance(PlayerRepository.class.getClassLoader(),
+                new Class<?>[]{PlayerRepository.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAll":
+                            return new ArrayList<>(players.values());
+                        case "findByTableId":
+                            List<Player> playersAtTable = new ArrayList<>();
+                            for (Player player : players.values()) {
+                                if (player.getTableId() == (Integer) args[0]) {
+                                    playersAtTable.add(player);
+                                }
+                            }
+                            return playersAtTable;
+                        case "findById":
+                            return Optional.ofNullable(players.get((Integer) args[0]));
+                        case "save":
+                            Player saved = (Player) args[0];
+                            players.put(saved.getPlayerId(), saved);
+                            return saved;
+                        case "saveAll":
+                            for (Object player : (Iterable<?>) args[0]) {
+                                players.put(((Player) player).getPlayerId(), (Player) player);
+                            }
+                            return args[0];
+                        case "count":
+                            return (long) players.size();
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "InMemoryPlayerRepository" + players.keySet();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
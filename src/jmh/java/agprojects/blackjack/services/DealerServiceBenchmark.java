@@ -0,0 +1,102 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DurabilityMode;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.dto.HandDTO;
+import agprojects.blackjack.repositories.InMemoryHandRepository;
+import agprojects.blackjack.repositories.InMemoryPlayerRepository;
+import agprojects.blackjack.repositories.PlayerRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A full round at the service level - deal, every player stands, the dealer finishes his hand and the round is settled.
+ * The players are kept in an in-memory repository, so the numbers do not include the database.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DealerServiceBenchmark {
+
+    @Param({"1", "5"})
+    public int numberOfPlayers;
+
+    @Param({"PER_ACTION", "PER_ROUND"})
+    public DurabilityMode durabilityMode;
+
+    private DealerServiceImpl dealerService;
+
+    private ShoeSupplierImpl shoeSupplier;
+
+    private TableRegistryImpl tableRegistry;
+
+    private PlayerRepository playerRepository;
+
+    @Setup
+    public void setUp() {
+        playerRepository = InMemoryPlayerRepository.create();
+        for (int i = 1; i <= numberOfPlayers; i++) {
+            Player player = new Player();
+            player.setPlayerId(i);
+            player.setName("Player " + i);
+            player.setBalance(1_000_000);
+            player.setBet(10);
+            player.setTableId(1);
+            player.setSeatNumber(i);
+            player.setHands(new ArrayList<>());
+            playerRepository.save(player);
+        }
+
+        shoeSupplier = new ShoeSupplierImpl();
+        shoeSupplier.shuffleService = new ShuffleServiceImpl();
+        shoeSupplier.start();
+
+        tableRegistry = new TableRegistryImpl();
+        tableRegistry.shoeSupplier = shoeSupplier;
+        tableRegistry.start();
+
+        RoundStateServiceImpl roundStateService = new RoundStateServiceImpl();
+        roundStateService.playerRepository = playerRepository;
+        roundStateService.handRepository = InMemoryHandRepository.create();
+        roundStateService.tableRegistry = tableRegistry;
+        roundStateService.durabilityMode = durabilityMode;
+
+        PlayerServiceImpl playerService = new PlayerServiceImpl();
+        playerService.playerRepository = playerRepository;
+        playerService.roundStateService = roundStateService;
+
+        dealerService = new DealerServiceImpl();
+        dealerService.tableRegistry = tableRegistry;
+        dealerService.playerService = playerService;
+        dealerService.roundStateService = roundStateService;
+        dealerService.shoeSupplier = shoeSupplier;
+        SettlementServiceImpl settlementService = new SettlementServiceImpl();
+        settlementService.roundStateService = roundStateService;
+        settlementService.ledgerService = new DiscardingLedgerService();
+        settlementService.walletService = new WalletServiceImpl();
+        dealerService.settlementService = settlementService;
+    }
+
+    @TearDown
+    public void tearDown() {
+        tableRegistry.stop();
+        shoeSupplier.stop();
+    }
+
+    @Benchmark
+    public HandDTO round() {
+        dealerService.deal(1);
+        for (Player player : playerRepository.findAll()) {
+            for (Hand hand : player.getHands()) {
+                hand.setFinished(true);
+            }
+        }
+        return dealerService.hitDealer(1);
+    }
+}
@@ -0,0 +1,29 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.services.base.LedgerService;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Ledger that drops every entry, so the benchmarks measure the game and not the queue of unwritten entries.
+ */
+final class DiscardingLedgerService implements LedgerService {
+
+    @Override
+    public void record(Player player, LedgerEntryType type, long amount) {
+    }
+
+    @Override
+    public int flush() {
+        return 0;
+    }
+
+    @Override
+    public List<LedgerEntry> getEntries(int playerId) {
+        return Collections.emptyList();
+    }
+}
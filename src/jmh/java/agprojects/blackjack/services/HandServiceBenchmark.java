@@ -0,0 +1,53 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.Deck;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandServiceBenchmark {
+
+    private HandServiceImpl handService;
+
+    private Deck deck;
+
+    private Dealer dealer;
+
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        deck = new Deck();
+        dealer = new Dealer();
+        dealer.replaceShoe(deck);
+        handService = new HandServiceImpl();
+        player = new Player();
+        player.setHands(new ArrayList<>());
+        player.getHands().add(new Hand());
+    }
+
+    /**
+     * Every invocation hits a fresh two card hard 5, which can never bust or finish on one card.
+     */
+    @Benchmark
+    public Player hit() {
+        if (deck.isCutCardReached()) {
+            deck.reshuffle();
+        }
+        player.getHands().set(0, new Hand(Card.of(CardType.TWO_OF_CLUBS), Card.of(CardType.THREE_OF_CLUBS)));
+        handService.hit(dealer, player, 0);
+        return player;
+    }
+}
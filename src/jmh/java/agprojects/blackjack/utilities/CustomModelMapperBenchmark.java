@@ -0,0 +1,59 @@
+package agprojects.blackjack.utilities;
+
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.models.dto.PlayerDTO;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one Player to PlayerDTO conversion - the field by field mapper against ModelMapper,
+ * created on every call as the mapper used to do and shared with its type map cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CustomModelMapperBenchmark {
+
+    private CustomModelMapper modelMapper;
+
+    private ModelMapper sharedModelMapper;
+
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new CustomModelMapper();
+        sharedModelMapper = new ModelMapper();
+        player = new Player();
+        player.setPlayerId(1);
+        player.setName("Player");
+        player.setBalance(1000);
+        player.setBet(10);
+        player.setHands(new ArrayList<>());
+        player.getHands().add(new Hand(Card.of(CardType.ACE_OF_CLUBS), Card.of(CardType.SIX_OF_HEARTS)));
+    }
+
+    @Benchmark
+    public PlayerDTO convertFromPlayer() {
+        return modelMapper.convertFromPlayer(player);
+    }
+
+    @Benchmark
+    public PlayerDTO modelMapperPerCall() {
+        return new ModelMapper().map(player, PlayerDTO.class);
+    }
+
+    @Benchmark
+    public PlayerDTO modelMapperShared() {
+        return sharedModelMapper.map(player, PlayerDTO.class);
+    }
+}
@@ -1,18 +1,22 @@
 package agprojects.blackjack.controllers;
 
-import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.DealerOutcome;
+import agprojects.blackjack.models.dto.DealDTO;
+import agprojects.blackjack.models.dto.HandDTO;
+import agprojects.blackjack.models.dto.ShoeCompositionDTO;
 import agprojects.blackjack.services.DealerServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import java.util.Map;
 
 
 @RestController
-@RequestMapping("/api/dealer")
+@RequestMapping("/api/tables/{tableId}/dealer")
 public class DealerController {
 
     @Autowired
@@ -20,18 +24,28 @@ public class DealerController {
 
 
     @GetMapping("deal")
-    public ResponseEntity<Map<String, Hand>> deal(){
-        return new ResponseEntity<>(dealerService.deal(), HttpStatus.OK);
+    public ResponseEntity<DealDTO> deal(@PathVariable int tableId){
+        return new ResponseEntity<>(dealerService.deal(tableId), HttpStatus.OK);
     }
 
     @GetMapping("decks")
-    public ResponseEntity<Integer> getNumberOfCards(){
-       return new ResponseEntity<>(dealerService.getNumberOfCards(),HttpStatus.OK);
+    public ResponseEntity<Integer> getNumberOfCards(@PathVariable int tableId){
+       return new ResponseEntity<>(dealerService.getNumberOfCards(tableId),HttpStatus.OK);
+    }
+
+    @GetMapping("decks/composition")
+    public ResponseEntity<ShoeCompositionDTO> getShoeComposition(@PathVariable int tableId){
+        return new ResponseEntity<>(dealerService.getShoeComposition(tableId),HttpStatus.OK);
+    }
+
+    @GetMapping("odds")
+    public ResponseEntity<Map<DealerOutcome, Double>> getDealerOdds(@PathVariable int tableId){
+        return new ResponseEntity<>(dealerService.getDealerOdds(tableId),HttpStatus.OK);
     }
 
     @GetMapping("hit")
-    public ResponseEntity <Hand> hitDealer(){
-        return new ResponseEntity<>(dealerService.hitDealer(), HttpStatus.OK);
+    public ResponseEntity <HandDTO> hitDealer(@PathVariable int tableId){
+        return new ResponseEntity<>(dealerService.hitDealer(tableId), HttpStatus.OK);
     }
 }
 
@@ -1,15 +1,18 @@
 package agprojects.blackjack.controllers;
 
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.Player;
 import agprojects.blackjack.utilities.CustomModelMapper;
 import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.models.dto.RetryStatsDTO;
 import agprojects.blackjack.services.PlayerServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/players")
@@ -21,12 +24,26 @@ public class PlayerController {
     @Autowired
     CustomModelMapper modelMapper;
 
+    /**
+     * Header with the cursor of the next page, only sent while there can be more players.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * Gets a page of players ordered by id. The next page starts after the id sent in the X-Next-Cursor header.
+     * @param after Id of the last player of the previous page, 0 for the first page.
+     * @param limit Number of players in the page.
+     */
     @GetMapping
-    public ResponseEntity<List<PlayerDTO>> getAllPlayers(){
-        List<PlayerDTO> playerDTOList = playerService.getAllPlayers()
-                .stream().map(player -> modelMapper.getModelMapper()
-                        .map(player, PlayerDTO.class)).collect(Collectors.toList());
-        return new ResponseEntity<>(playerDTOList,HttpStatus.OK);
+    public ResponseEntity<List<PlayerDTO>> getAllPlayers(@RequestParam(defaultValue = "0") int after,
+                                                         @RequestParam(defaultValue = "50") int limit){
+        List<Player> players = playerService.getPlayersPage(after,limit);
+        List<PlayerDTO> playerDTOList = modelMapper.convertFromPlayers(players);
+        HttpHeaders headers = new HttpHeaders();
+        if(players.size() == limit){
+            headers.set(NEXT_CURSOR_HEADER, Integer.toString(players.get(players.size() - 1).getPlayerId()));
+        }
+        return new ResponseEntity<>(playerDTOList,headers,HttpStatus.OK);
     }
 
     @PostMapping
@@ -37,32 +54,48 @@ public class PlayerController {
 
     @GetMapping("/{playerId}")
     public ResponseEntity<PlayerDTO> getPlayerById(@PathVariable int playerId){
-        PlayerDTO playerDTO = modelMapper.convertFromPlayer(playerService.getPlayerById(playerId));
+        PlayerDTO playerDTO = playerService.getPlayerById(playerId);
         return new ResponseEntity<>(playerDTO,HttpStatus.OK);
     }
 
 
+    @GetMapping("/stats/retries")
+    public ResponseEntity<RetryStatsDTO> getRetryStats(){
+        return new ResponseEntity<>(playerService.getRetryStats(),HttpStatus.OK);
+    }
+
+    @GetMapping("/{playerId}/ledger")
+    public ResponseEntity<List<LedgerEntry>> getLedger(@PathVariable int playerId){
+        return new ResponseEntity<>(playerService.getLedger(playerId),HttpStatus.OK);
+    }
+
     @PutMapping("/bet/{playerId}/{playerBet}")
-    public ResponseEntity<PlayerDTO> placeBetByPlayerId(@PathVariable int playerId, @PathVariable double playerBet) {
-        PlayerDTO playerDTO = modelMapper.convertFromPlayer(playerService.placeBet(playerId,playerBet));
+    public ResponseEntity<PlayerDTO> placeBetByPlayerId(@PathVariable int playerId, @PathVariable long playerBet) {
+        PlayerDTO playerDTO = playerService.placeBet(playerId,playerBet);
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
     @PutMapping("/{playerId}/balance/{playerBalance}")
-    public ResponseEntity<PlayerDTO> addBalanceToPlayer(@PathVariable int playerId, @PathVariable int playerBalance) {
+    public ResponseEntity<PlayerDTO> addBalanceToPlayer(@PathVariable int playerId, @PathVariable long playerBalance) {
         PlayerDTO playerDTO = modelMapper.convertFromPlayer(playerService.addBalanceToPlayer(playerId,playerBalance));
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
-    @PutMapping("/seat/{playerId}/{playerSeat}")
-    public ResponseEntity<PlayerDTO> sitPlayer(@PathVariable int playerId, @PathVariable int playerSeat) {
-        PlayerDTO playerDTO = modelMapper.convertFromPlayer(playerService.seatPlayer(playerId,playerSeat));
+    @PutMapping("/seat/{tableId}/{playerId}/{playerSeat}")
+    public ResponseEntity<PlayerDTO> sitPlayer(@PathVariable int tableId, @PathVariable int playerId, @PathVariable int playerSeat) {
+        PlayerDTO playerDTO = playerService.seatPlayer(tableId,playerId,playerSeat);
+        return new ResponseEntity<>(playerDTO, HttpStatus.OK);
+    }
+
+    @PutMapping("/leave/{tableId}/{playerId}")
+    public ResponseEntity<PlayerDTO> leaveTable(@PathVariable int tableId, @PathVariable int playerId) {
+        PlayerDTO playerDTO = playerService.leaveTable(tableId,playerId);
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
-    @PutMapping("/{action}/{playerId}/{handId}")
-    public ResponseEntity<PlayerDTO> executePlayerAction(@PathVariable String action, @PathVariable int playerId, @PathVariable int handId) {
-        PlayerDTO playerDTO = modelMapper.convertFromPlayer(playerService.executeAction(action,playerId,handId));
+    @PutMapping("/{action}/{tableId}/{playerId}/{handId}")
+    public ResponseEntity<PlayerDTO> executePlayerAction(@PathVariable String action, @PathVariable int tableId, @PathVariable int playerId, @PathVariable int handId) {
+        PlayerDTO playerDTO = playerService.executeAction(action,tableId,playerId,handId);
         return new ResponseEntity<>(playerDTO, HttpStatus.OK);
     }
 
@@ -0,0 +1,23 @@
+package agprojects.blackjack.controllers;
+
+import agprojects.blackjack.models.dto.ShoePoolStatsDTO;
+import agprojects.blackjack.services.ShoeSupplierImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/shoes")
+public class ShoeController {
+
+    @Autowired
+    ShoeSupplierImpl shoeSupplier;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ShoePoolStatsDTO> getShoePoolStats(){
+        return new ResponseEntity<>(shoeSupplier.getStats(), HttpStatus.OK);
+    }
+}
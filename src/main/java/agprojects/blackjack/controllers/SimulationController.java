@@ -0,0 +1,27 @@
+package agprojects.blackjack.controllers;
+
+import agprojects.blackjack.models.dto.SimulationDTO;
+import agprojects.blackjack.models.dto.SimulationRequestDTO;
+import agprojects.blackjack.services.SimulationServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/simulations")
+public class SimulationController {
+
+    @Autowired
+    SimulationServiceImpl simulationService;
+
+    @PostMapping
+    public ResponseEntity<SimulationDTO> startSimulation(@RequestBody SimulationRequestDTO request){
+        return new ResponseEntity<>(simulationService.startSimulation(request), HttpStatus.ACCEPTED);
+    }
+
+    @GetMapping("/{simulationId}")
+    public ResponseEntity<SimulationDTO> getSimulation(@PathVariable int simulationId){
+        return new ResponseEntity<>(simulationService.getSimulation(simulationId), HttpStatus.OK);
+    }
+}
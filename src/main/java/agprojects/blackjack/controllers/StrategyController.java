@@ -0,0 +1,24 @@
+package agprojects.blackjack.controllers;
+
+import agprojects.blackjack.models.dto.StrategyDTO;
+import agprojects.blackjack.services.StrategyServiceImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/strategy")
+public class StrategyController {
+
+    @Autowired
+    StrategyServiceImpl strategyService;
+
+    @GetMapping("/{playerId}/{handId}")
+    public ResponseEntity<StrategyDTO> getStrategy(@PathVariable int playerId, @PathVariable int handId){
+        return new ResponseEntity<>(strategyService.getStrategy(playerId,handId), HttpStatus.OK);
+    }
+}
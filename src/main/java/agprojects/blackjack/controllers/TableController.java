@@ -0,0 +1,58 @@
+package agprojects.blackjack.controllers;
+
+import agprojects.blackjack.models.Table;
+import agprojects.blackjack.models.dto.TableDTO;
+import agprojects.blackjack.services.TableRegistryImpl;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RestController
+@RequestMapping("/api/tables")
+public class TableController {
+
+    @Autowired
+    TableRegistryImpl tableRegistry;
+
+    @GetMapping
+    public ResponseEntity<List<TableDTO>> getTables(){
+        List<TableDTO> tableDTOList = tableRegistry.getTables()
+                .stream().map(TableController::convertFromTable).collect(Collectors.toList());
+        return new ResponseEntity<>(tableDTOList, HttpStatus.OK);
+    }
+
+    @PostMapping
+    public ResponseEntity<TableDTO> createTable(@RequestBody(required = false) TableDTO table){
+        Table createdTable = table == null
+                ? tableRegistry.createTable(null, null, null)
+                : tableRegistry.createTable(table.getSoft17Rule(), table.getShoeMode(), table.getRngType());
+        return new ResponseEntity<>(convertFromTable(createdTable), HttpStatus.CREATED);
+    }
+
+    @GetMapping("/{tableId}")
+    public ResponseEntity<TableDTO> getTable(@PathVariable int tableId){
+        return new ResponseEntity<>(convertFromTable(tableRegistry.getTable(tableId)), HttpStatus.OK);
+    }
+
+    @DeleteMapping("/{tableId}")
+    public ResponseEntity<Void> closeTable(@PathVariable int tableId){
+        tableRegistry.closeTable(tableId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    private static TableDTO convertFromTable(Table table) {
+        TableDTO tableDTO = new TableDTO();
+        tableDTO.setTableId(table.getTableId());
+        tableDTO.setSoft17Rule(table.getDealer().getSoft17Rule());
+        tableDTO.setShoeMode(table.getDealer().getShoeMode());
+        tableDTO.setRngType(table.getRngType());
+        tableDTO.setNumberOfSeats(table.getNumberOfSeats());
+        tableDTO.setSeatsTaken(table.getSeatsTaken());
+        tableDTO.setFreeSeatMask(table.getFreeSeatMask());
+        return tableDTO;
+    }
+}
@@ -1,6 +1,8 @@
 package agprojects.blackjack.exceptions;
 
 
+import agprojects.blackjack.services.OptimisticRetry;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -23,4 +25,19 @@ public class ApiExceptionHandler {
 
         return new ResponseEntity<>(apiException,badRequest);
     }
+
+    /**
+     * A player that was changed by another request at the same time, after all retries or inside a table command.
+     */
+    @ExceptionHandler(value = {OptimisticLockingFailureException.class})
+    public ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException e){
+        HttpStatus conflict = HttpStatus.CONFLICT;
+        ApiException apiException = new ApiException(
+                OptimisticRetry.CONCURRENT_UPDATE,
+                conflict,
+                LocalDateTime.now()
+        );
+
+        return new ResponseEntity<>(apiException,conflict);
+    }
 }
@@ -0,0 +1,95 @@
+package agprojects.blackjack.models;
+
+/**
+ * Precomputed basic strategy chart for a multi-deck shoe where the dealer stands on soft 17
+ * and doubling after a split is allowed.
+ * Every row holds one decision per dealer up card from Two to Ace:
+ * H - hit, S - stand, D - double or else hit, X - double or else stand, P - split, R - surrender or else hit.
+ */
+public final class BasicStrategy {
+
+    private static final String[] HARD = new String[22];
+
+    private static final String[] SOFT = new String[22];
+
+    private static final String[] PAIRS = new String[12];
+
+    static {
+        for (int total = 4; total <= 8; total++) {
+            HARD[total] = "HHHHHHHHHH";
+        }
+        HARD[9] = "HDDDDHHHHH";
+        HARD[10] = "DDDDDDDDHH";
+        HARD[11] = "DDDDDDDDDH";
+        HARD[12] = "HHSSSHHHHH";
+        HARD[13] = "SSSSSHHHHH";
+        HARD[14] = "SSSSSHHHHH";
+        HARD[15] = "SSSSSHHHRH";
+        HARD[16] = "SSSSSHHRRR";
+        for (int total = 17; total <= 21; total++) {
+            HARD[total] = "SSSSSSSSSS";
+        }
+
+        // A single Ace, left after splitting Aces before its second card is dealt.
+        SOFT[11] = "HHHHHHHHHH";
+        SOFT[12] = "HHHDDHHHHH";
+        SOFT[13] = "HHHDDHHHHH";
+        SOFT[14] = "HHHDDHHHHH";
+        SOFT[15] = "HHDDDHHHHH";
+        SOFT[16] = "HHDDDHHHHH";
+        SOFT[17] = "HDDDDHHHHH";
+        SOFT[18] = "SXXXXSSHHH";
+        SOFT[19] = "SSSSSSSSSS";
+        SOFT[20] = "SSSSSSSSSS";
+        SOFT[21] = "SSSSSSSSSS";
+
+        PAIRS[2] = "PPPPPPHHHH";
+        PAIRS[3] = "PPPPPPHHHH";
+        PAIRS[4] = "HHHPPHHHHH";
+        PAIRS[6] = "PPPPPHHHHH";
+        PAIRS[7] = "PPPPPPHHHH";
+        PAIRS[8] = "PPPPPPPPPP";
+        PAIRS[9] = "PPPPPSPPSS";
+        PAIRS[10] = "SSSSSSSSSS";
+        PAIRS[11] = "PPPPPPPPPP";
+    }
+
+    private BasicStrategy() {
+    }
+
+    /**
+     * @param handState state of the player's hand.
+     * @param dealerUpCardRank rank of the dealer's up card - 2 to 11.
+     * @param canDouble true if the hand may still be doubled.
+     * @param canSplit true if the hand may be split.
+     * @param canSurrender true if the hand may be surrendered.
+     * @return the basic strategy decision for the hand.
+     * @see HandState
+     */
+    public static PlayerAction recommend(int handState, int dealerUpCardRank, boolean canDouble, boolean canSplit, boolean canSurrender) {
+        int total = HandState.total(handState);
+        if (HandState.isBust(handState) || HandState.isBlackJack(handState) || total >= 21) {
+            return PlayerAction.STAND;
+        }
+        int column = dealerUpCardRank - 2;
+        int pairRank = HandState.pairRank(handState);
+
+        char decision;
+        if (canSplit && pairRank != 0 && PAIRS[pairRank] != null) {
+            decision = PAIRS[pairRank].charAt(column);
+        } else if (HandState.isSoft(handState)) {
+            decision = SOFT[total].charAt(column);
+        } else {
+            decision = HARD[Math.max(total, 4)].charAt(column);
+        }
+
+        switch (decision) {
+            case 'P': return PlayerAction.SPLIT;
+            case 'S': return PlayerAction.STAND;
+            case 'D': return canDouble ? PlayerAction.DOUBLE : PlayerAction.HIT;
+            case 'X': return canDouble ? PlayerAction.DOUBLE : PlayerAction.STAND;
+            case 'R': return canSurrender ? PlayerAction.SURRENDER : PlayerAction.HIT;
+            default: return PlayerAction.HIT;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.models.rng.RandomStream;
+import agprojects.blackjack.models.rng.RngType;
+
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shoe that works as a continuous shuffling machine.
+ * Every draw picks a random card from the cards in the machine and discarded cards go back in,
+ * so the shoe never has to be shuffled as a whole.
+ */
+public final class ContinuousShuffler implements Shoe {
+
+    private static final int CARDS_IN_DECK = CardType.values().length;
+
+    /**
+     * Cards in the machine as CardType ordinals, only the first count of them are in play.
+     */
+    private final byte[] cards;
+
+    private int count;
+
+    private final RandomStream random;
+
+    private final ShoeComposition composition;
+
+    public ContinuousShuffler() {
+        this(Deck.DEFAULT_NUMBER_OF_DECKS);
+    }
+
+    public ContinuousShuffler(int numberOfDecks) {
+        this(numberOfDecks, RngType.FAST.create(ThreadLocalRandom.current().nextLong()));
+    }
+
+    /**
+     * Fills the machine with all the cards from the enum CardType numberOfDecks times.
+     *
+     * @param numberOfDecks number of 52 card decks in the machine.
+     * @param random seeded stream used for drawing.
+     */
+    public ContinuousShuffler(int numberOfDecks, RandomStream random) {
+        if (numberOfDecks < 1) {
+            throw new IllegalArgumentException("Shoe must contain at least one deck");
+        }
+        this.random = random;
+        this.cards = new byte[numberOfDecks * CARDS_IN_DECK];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CARDS_IN_DECK);
+        }
+        this.count = cards.length;
+        this.composition = new ShoeComposition(numberOfDecks);
+    }
+
+    /**
+     * Draws a uniformly random card and fills its place with the last card in the machine.
+     * @return the drawn card.
+     */
+    @Override
+    public Card getCard() {
+        if (count == 0) {
+            throw new EmptyStackException();
+        }
+        int index = random.nextInt(count);
+        byte card = cards[index];
+        cards[index] = cards[--count];
+        Card drawnCard = Card.of(card);
+        composition.remove(drawnCard);
+        return drawnCard;
+    }
+
+    @Override
+    public int getNumberOfCards() {
+        return count;
+    }
+
+    /**
+     * @return always false - the machine is never replaced.
+     */
+    @Override
+    public boolean isCutCardReached() {
+        return false;
+    }
+
+    @Override
+    public ShoeComposition getComposition() {
+        return composition;
+    }
+
+    @Override
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    @Override
+    public void discard(Card card) {
+        if (count == cards.length) {
+            throw new IllegalStateException("All cards are already in the shoe");
+        }
+        cards[count++] = (byte) card.getName().ordinal();
+        composition.add(card);
+    }
+}
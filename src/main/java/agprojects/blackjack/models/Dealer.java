@@ -1,42 +1,66 @@
 package agprojects.blackjack.models;
 
 import agprojects.blackjack.models.card.Card;
-import org.springframework.stereotype.Component;
 
 /**
- * This class represents the dealer in BlackJack.
+ * This class represents the dealer in BlackJack - every table has its own.
  */
-@Component
 public class Dealer {
 
     /**
-     * The dealers deck which consists of 312 cards (6 decks)
+     * The dealers shoe - by default a deck of 312 cards (6 decks)
      */
-    private final Deck deck;
+    private Shoe shoe;
 
     /**
      * The dealers current hand in the BlackJack round.
      */
     private Hand dealersHand;
 
-    private boolean mustDraw = true;
+    /**
+     * Whether the dealer stands or hits on a soft 17 at this table.
+     */
+    private Soft17Rule soft17Rule = Soft17Rule.STAND;
 
     public Dealer() {
-        this.deck = new Deck();
+        this.shoe = new Deck();
         this.dealersHand = new Hand();
     }
 
+    public Dealer(Soft17Rule soft17Rule) {
+        this();
+        this.soft17Rule = soft17Rule;
+    }
+
     /**
-     * Draws one card from the deck.
-     * @return Card Object - the top card in the deck.
+     * Draws one card from the shoe.
+     * @return Card Object - the top card in the shoe.
      */
     public Card draw(){
-        return deck.getCard();
+        return shoe.getCard();
 
     }
 
-    public Deck getDeck() {
-        return deck;
+    public Shoe getShoe() {
+        return shoe;
+    }
+
+    /**
+     * Swaps in a new shoe, used once the cut card of the current one has come out.
+     * @param shoe shuffled shoe.
+     */
+    public void replaceShoe(Shoe shoe) {
+        this.shoe = shoe;
+    }
+
+    /**
+     * Returns the cards of a finished hand to the shoe.
+     * @param hand finished hand.
+     */
+    public void collect(Hand hand) {
+        for (Card card : hand.getCardsInHand()) {
+            shoe.discard(card);
+        }
     }
 
     public Hand getDealersHand() {
@@ -47,19 +71,30 @@ public class Dealer {
         this.dealersHand = dealersHand;
     }
 
+    public Soft17Rule getSoft17Rule() {
+        return soft17Rule;
+    }
+
+    public ShoeMode getShoeMode() {
+        return shoe instanceof ContinuousShuffler ? ShoeMode.CONTINUOUS : ShoeMode.CLASSIC;
+    }
+
+    /**
+     * @return true if the dealer has to draw another card according to the table's soft 17 rule.
+     */
     public boolean mustDraw() {
-        String dealerHand = dealersHand.getHandValue();
-        if(dealerHand.equals("7/17") || dealerHand.equals("8/18") || dealerHand.equals("9/19")  || dealerHand.equals("10/20")){
-            mustDraw = false;
-        }else if(dealerHand.length() == 2){
-            int handValue = Integer.parseInt(dealerHand);
-            if(handValue>= 17 && handValue<= 21){
-                mustDraw = false;
-            }
-        }else if(dealerHand.contains("Bust") || dealerHand.contains("BlackJack")){
-            mustDraw = false;
-        }
+        return soft17Rule.mustDraw(dealersHand.getHandState());
+    }
 
-        return mustDraw;
+    /**
+     * Draws cards to the dealer's hand until the soft 17 rule says to stand.
+     * @return the finished dealer's hand.
+     */
+    public Hand finishHand() {
+        while (mustDraw()) {
+            dealersHand.addCard(draw());
+        }
+        dealersHand.evaluateHand();
+        return dealersHand;
     }
 }
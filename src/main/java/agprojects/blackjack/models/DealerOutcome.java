@@ -0,0 +1,30 @@
+package agprojects.blackjack.models;
+
+/**
+ * Possible final results of the dealer's hand.
+ */
+public enum DealerOutcome {
+    SEVENTEEN,
+    EIGHTEEN,
+    NINETEEN,
+    TWENTY,
+    TWENTY_ONE,
+    BLACKJACK,
+    BUST;
+
+    private static final DealerOutcome[] VALUES = values();
+
+    /**
+     * @param handState state of a hand the dealer stands on.
+     * @return the outcome the hand state represents.
+     */
+    public static DealerOutcome of(int handState) {
+        if (HandState.isBust(handState)) {
+            return BUST;
+        }
+        if (HandState.isBlackJack(handState)) {
+            return BLACKJACK;
+        }
+        return VALUES[HandState.total(handState) - 17];
+    }
+}
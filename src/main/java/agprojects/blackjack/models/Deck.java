@@ -2,50 +2,169 @@ package agprojects.blackjack.models;
 
 import agprojects.blackjack.models.card.Card;
 import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.models.rng.RandomStream;
+import agprojects.blackjack.models.rng.RngType;
 
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Stack;
+import java.util.EmptyStackException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Holds all the cards that are not used on the board,
  * or for any of the players.
+ * The shoe is stored as CardType ordinals and a cursor pointing at the next card to be dealt,
+ * so dealing a card does not allocate and does not lock.
  */
-public final class Deck {
+public final class Deck implements Shoe {
+
+    public static final int DEFAULT_NUMBER_OF_DECKS = 6;
+
+    /**
+     * Part of the shoe that is dealt before the cut card comes out.
+     */
+    public static final double DEFAULT_PENETRATION = 0.75;
+
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    /**
+     * All cards in the shoe as CardType ordinals, the ones before the cursor are already dealt.
+     */
+    private final byte[] cards;
+
+    /**
+     * Index of the next card to be dealt.
+     */
+    private int cursor;
+
+    /**
+     * Index of the cut card, once the cursor passes it the shoe should be replaced or reshuffled.
+     */
+    private final int cutCardPosition;
+
+    private final int numberOfDecks;
+
+    private final RandomStream random;
+
+    private final ShoeComposition composition;
 
     /**
-     * All cards in the deck, cannot be higher than 52.
+     * Creates a shuffled shoe of 6 decks - so there are 312 Cards in total.
      */
-    private final Stack<Card> cards;
+    public Deck() {
+        this(DEFAULT_NUMBER_OF_DECKS, DEFAULT_PENETRATION);
+    }
+
+    public Deck(int numberOfDecks, double penetration) {
+        this(numberOfDecks, penetration, RngType.FAST.create(ThreadLocalRandom.current().nextLong()));
+    }
 
     /**
-     * Instantiates a stack of cards and fills this list with all
-     * the cards from the enum CardType 6 times - so there are 312 Cards in total.
-     * All the cards will be shuffled when the list is created.
+     * Fills the shoe with all the cards from the enum CardType numberOfDecks times
+     * and shuffles it.
+     *
+     * @param numberOfDecks number of 52 card decks in the shoe.
+     * @param penetration part of the shoe (between 0 and 1) that is dealt before the cut card.
+     * @param random seeded stream used for shuffling, the same seed always gives the same shoe.
      *
      * @see CardType
-     * @see Card
      */
-    public Deck() {
-        this.cards = new Stack<>();
-        for (int i = 0; i < 6; i++) {
-            Arrays.stream(CardType.values()).forEach(c -> cards.add(new Card(c)));
-            Collections.shuffle(cards);
+    public Deck(int numberOfDecks, double penetration, RandomStream random) {
+        if (numberOfDecks < 1) {
+            throw new IllegalArgumentException("Shoe must contain at least one deck");
+        }
+        if (penetration <= 0 || penetration > 1) {
+            throw new IllegalArgumentException("Penetration must be between 0 and 1");
+        }
+        this.numberOfDecks = numberOfDecks;
+        this.random = random;
+        this.cards = new byte[numberOfDecks * CARD_TYPES.length];
+        for (int i = 0; i < cards.length; i++) {
+            cards[i] = (byte) (i % CARD_TYPES.length);
         }
+        this.cutCardPosition = (int) (cards.length * penetration);
+        this.composition = new ShoeComposition(numberOfDecks);
+        shuffleFrom(0);
     }
 
     /**
-     * @return removes the first card from the stack.
+     * @return removes the top card from the shoe.
      */
+    @Override
     public Card getCard() {
-        return this.cards.pop();
+        if (cursor == cards.length) {
+            throw new EmptyStackException();
+        }
+        Card card = Card.of(cards[cursor++]);
+        composition.remove(card);
+        return card;
     }
 
     /**
      * @return the number of cards still available in the deck.
      */
+    @Override
     public int getNumberOfCards() {
-        return cards.size();
+        return cards.length - cursor;
+    }
+
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    @Override
+    public ShoeComposition getComposition() {
+        return composition;
+    }
+
+    /**
+     * Reshuffles continue the same stream, so every shuffle of this shoe can be reproduced from the seed.
+     * @return seed of the stream the shoe is shuffled with.
+     */
+    @Override
+    public long getSeed() {
+        return random.getSeed();
+    }
+
+    /**
+     * @return true if the cut card has already come out and the shoe is due for a reshuffle.
+     */
+    @Override
+    public boolean isCutCardReached() {
+        return cursor >= cutCardPosition;
+    }
+
+    /**
+     * Discarded cards stay out of the shoe until it is reshuffled.
+     */
+    @Override
+    public void discard(Card card) {
+    }
+
+    /**
+     * Collects all dealt cards back into the shoe and shuffles the whole shoe again.
+     */
+    public void reshuffle() {
+        cursor = 0;
+        composition.reset();
+        shuffleFrom(0);
+    }
+
+    /**
+     * Shuffles only the cards that are not dealt yet - O(remaining cards).
+     */
+    public void shuffleRemaining() {
+        shuffleFrom(cursor);
+    }
+
+    /**
+     * Fisher-Yates shuffle of the cards from the given index to the end of the shoe.
+     */
+    private void shuffleFrom(int from) {
+        for (int i = cards.length - 1; i > from; i--) {
+            int j = from + random.nextInt(i - from + 1);
+            byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,16 @@
+package agprojects.blackjack.models;
+
+/**
+ * When the changes the players make at a table are written to the database.
+ */
+public enum DurabilityMode {
+    /**
+     * Every action is written before it is answered.
+     */
+    PER_ACTION,
+    /**
+     * The players of a table are kept in memory while they play, the changed players are written
+     * together when the round is settled and at regular checkpoints.
+     */
+    PER_ROUND
+}
@@ -1,15 +1,17 @@
 package agprojects.blackjack.models;
 
 import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardListConverter;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import javax.persistence.*;
 import javax.persistence.Table;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 /**
  * This class represents a Hand in the BlackJack - could be a dealer or a player's hand.
+ * The value of the hand is kept as a {@link HandState} that is updated with one table read on every added card.
  */
 @Entity
 @Table(name = "hands")
@@ -20,41 +22,57 @@ public final class Hand {
     }
 
     public Hand(Card... cards){
-        this.cardsInHand = new ArrayList<>();
-        this.cardsInHand.addAll(Arrays.asList(cards));
+        this.cardsInHand = new ArrayList<>(cards.length);
+        for (Card card : cards) {
+            addCard(Card.of(card.getName()));
+        }
     }
 
+    /**
+     * Taken from a pooled sequence, so new hands get their ids without a round trip each and their inserts can be batched.
+     */
     @Id
-    @GeneratedValue(strategy= GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hand_seq")
+    @SequenceGenerator(name = "hand_seq", sequenceName = "hand_seq", allocationSize = 50)
     @Column(name = "handId")
     private int handId;
 
-    @Column(name = "handValue")
-    private String handValue;
-
+    /**
+     * Bet of the hand in minor units (cents).
+     */
     @Column(name = "handBet")
-    private double handBet;
-
-    @Column(name = "isBlackJack")
-    private boolean isBlackJack = false;
-
-    @Column(name = "isSplitable")
-    private boolean isSplittable = false;
+    private long handBet;
 
-    @Column(name = "isBust")
-    private boolean isBust = false;
+    /**
+     * Encoded value of the hand - total, soft Ace, pair, blackjack and bust.
+     * @see HandState
+     */
+    @Column(name = "handState")
+    private int handState = HandState.EMPTY;
 
     @Column(name = "isFinished")
     private boolean isFinished = false;
 
-    @Column(name = "numberOfAces")
-    private int numberOfAces = 0;
+    /**
+     * The player gave up the hand, half of the bet is returned when the round is settled.
+     */
+    @Column(name = "isSurrendered")
+    private boolean isSurrendered = false;
+
+    /**
+     * The hand was already paid out, so a round is never settled twice.
+     */
+    @Column(name = "isSettled")
+    private boolean isSettled = false;
 
     /**
      * List of cards in the current Hand, a player could have multiple hands if he splits for example.
+     * Stored as one byte per card.
+     * @see CardListConverter
      */
+    @Convert(converter = CardListConverter.class)
     @Column(name = "cardsInHand", length = 1024)
-    private final ArrayList<Card> cardsInHand;
+    private final List<Card> cardsInHand;
 
     public int getHandId() {
         return handId;
@@ -64,15 +82,59 @@ public final class Hand {
         this.handId = handId;
     }
 
+    /**
+     * Builds the display value of the hand - "15", "4/14", "21 - BlackJack" or "22 - Bust".
+     * @return display value of the hand or null if there are no cards in it.
+     */
     public String getHandValue() {
-        return handValue;
+        if (cardsInHand.isEmpty()) {
+            return null;
+        }
+        int hardTotal = HandState.hardTotal(handState);
+        if (HandState.isBust(handState)) {
+            return hardTotal + " - Bust";
+        }
+        if (HandState.isBlackJack(handState)) {
+            return "21 - BlackJack";
+        }
+        if (HandState.isSoft(handState)) {
+            return hardTotal + "/" + (hardTotal + 10);
+        }
+        return Integer.toString(hardTotal);
+    }
+
+    /**
+     * @return the best value of the hand - soft Aces are counted as 11.
+     */
+    public int getTotal() {
+        return HandState.total(handState);
+    }
+
+    public int getHardTotal() {
+        return HandState.hardTotal(handState);
+    }
+
+    public boolean isSoft() {
+        return HandState.isSoft(handState);
+    }
+
+    public int getCardCount() {
+        return cardsInHand.size();
+    }
+
+    public int getPairRank() {
+        return HandState.pairRank(handState);
     }
 
-    public double getHandBet() {
+    public int getHandState() {
+        return handState;
+    }
+
+    public long getHandBet() {
         return handBet;
     }
 
-    public void setHandBet(double handBet) {
+    public void setHandBet(long handBet) {
         this.handBet = handBet;
     }
 
@@ -80,16 +142,28 @@ public final class Hand {
         return cardsInHand;
     }
 
+    /**
+     * Used when a hand is read from JSON, so the hand state is built from the cards.
+     */
+    @JsonProperty("cardsInHand")
+    private void setCardsInHand(List<Card> cards) {
+        cardsInHand.clear();
+        handState = HandState.EMPTY;
+        for (Card card : cards) {
+            addCard(card);
+        }
+    }
+
     public boolean isBlackJack() {
-        return isBlackJack;
+        return HandState.isBlackJack(handState);
     }
 
     public boolean isSplittable(){
-        return isSplittable;
+        return HandState.isPair(handState) && HandState.cardCountBucket(handState) == 2;
     }
 
     public boolean isBust() {
-        return isBust;
+        return HandState.isBust(handState);
     }
 
     public boolean isFinished() {
@@ -100,94 +174,50 @@ public final class Hand {
         isFinished = finished;
     }
 
+    public boolean isSurrendered() {
+        return isSurrendered;
+    }
+
+    public void setSurrendered(boolean surrendered) {
+        isSurrendered = surrendered;
+    }
+
+    public boolean isSettled() {
+        return isSettled;
+    }
+
+    public void setSettled(boolean settled) {
+        isSettled = settled;
+    }
+
     /**
-     * Adds a card to the Hand.
+     * Adds a card to the Hand and moves the hand to its next state.
      * @param card Card object.
      */
     public void  addCard(Card card){
         cardsInHand.add(card);
+        handState = HandState.next(handState, card.getRank());
     }
 
     /**
-     * Evaluates hand value of the Hand, considering soft Aces and multiple Aces
+     * Finishes the Hand if it is a BlackJack or a Bust - the value itself is already known from the hand state.
      */
     public void evaluateHand(){
-        int tempValue = evaluateTempHandValue();
-        checkIfSplittable();
-        boolean softAceUsed = false;
-
-        if(numberOfAces>0){
-            softAceUsed=true;
-        }
-
-        // if there is only one ace and temp value is over 21 - the ace counts as 1
-        if(numberOfAces==1 && tempValue>21){
-            tempValue-=10;
-            softAceUsed = false;
-        }
-        // This while makes every Ace value to 1 if over 21 else if under 21 - its a soft ace
-        while (numberOfAces>1){
-            if(tempValue>21){
-                tempValue -= 10;
-                numberOfAces -= 1;
-            }else {
-                break;
-            }
-        }
-        //Returns the normal value of the hand without if its under 21 or equal and there isn't a soft Ace
-        if(tempValue <= 21 && !softAceUsed){
-            handValue = Integer.toString(tempValue);
-        }
-        // Returns the soft Ace value - 4/14 for example if cards are Ace and Three
-        if(tempValue <= 21 && softAceUsed){
-            handValue = tempValue - 10 + "/" + tempValue;
-        }
-        // If there is only two cards and tempValue is 21 then it is a BlackJack
-        if(tempValue == 21 && cardsInHand.size() == 2){
-            isBlackJack = true;
+        if(HandState.isBlackJack(handState) || HandState.isBust(handState)){
             isFinished = true;
-            handValue = tempValue + " - BlackJack";
-        }
-        // If over 21 - Hand is a BUST
-        else if (tempValue > 21){
-            isBust = true;
-            isFinished = true;
-            handValue = tempValue + " - Bust";
         }
     }
 
     /**
-     * Adds up all the hands values into a temporaryResult and counts the number of Aces
-     * @return Combined number of all cardsInHand values
+     * Moves the second card to a new hand with the same bet.
+     * @return the new hand.
      */
-    private int evaluateTempHandValue(){
-        int tempHandValue = 0;
-
-        for (Card card: cardsInHand) {
-            if(card.isAce()){
-                numberOfAces++;
-            }
-            tempHandValue = tempHandValue + card.getRank();
-        }
-
-
-        return tempHandValue;
-    }
-
-    /**
-     * Checks if the current Hand is splittable - true if first two cards are of same value
-     */
-    private void checkIfSplittable(){
-        if(cardsInHand.size()==2 && cardsInHand.get(0) != null && cardsInHand.get(1) != null){
-            isSplittable = cardsInHand.get(0).getRank() == cardsInHand.get(1).getRank();
-        }else if(cardsInHand.size()>2){
-            isSplittable = false;
-        }
-    }
-
     public Hand split() {
         Card cardToSplit = this.cardsInHand.remove(1);
-        return new Hand(cardToSplit);
+        handState = HandState.next(HandState.EMPTY, cardsInHand.get(0).getRank());
+        Hand splitHand = new Hand(cardToSplit);
+        splitHand.setHandBet(handBet);
+        return splitHand;
 
     }
 }
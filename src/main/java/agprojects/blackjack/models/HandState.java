@@ -0,0 +1,156 @@
+package agprojects.blackjack.models;
+
+/**
+ * Compact integer encoding of every blackjack hand state and a precomputed transition table between them.
+ * A state packs the hard total, the soft flag, the pair flag, a card count bucket, blackjack and bust into 11 bits,
+ * so adding a card to a hand is a single read from the table.
+ *
+ * <pre>
+ * bits 0-4  hard total (every Ace counted as 1, capped at 31)
+ * bit  5    soft - an Ace can be counted as 11
+ * bit  6    pair - the first two cards are of the same value
+ * bits 7-8  number of cards - 0, 1, 2 or 3 and more
+ * bit  9    blackjack
+ * bit  10   bust
+ * </pre>
+ */
+public final class HandState {
+
+    /**
+     * State of a hand without any cards.
+     */
+    public static final int EMPTY = 0;
+
+    public static final int STATE_COUNT = 1 << 11;
+
+    /**
+     * Number of distinct card values - 2 to 10 and Ace (11).
+     */
+    public static final int RANK_COUNT = 10;
+
+    private static final int HARD_TOTAL_MASK = 0x1F;
+    private static final int MAX_HARD_TOTAL = 31;
+    private static final int SOFT = 1 << 5;
+    private static final int PAIR = 1 << 6;
+    private static final int COUNT_SHIFT = 7;
+    private static final int COUNT_MASK = 0x3;
+    private static final int BLACKJACK = 1 << 9;
+    private static final int BUST = 1 << 10;
+
+    /**
+     * next[state * RANK_COUNT + rank - 2] - the state after a card of the given rank is added.
+     */
+    private static final short[] NEXT = new short[STATE_COUNT * RANK_COUNT];
+
+    /**
+     * Best total of every state - soft Aces counted as 11.
+     */
+    private static final byte[] TOTAL = new byte[STATE_COUNT];
+
+    static {
+        for (int state = 0; state < STATE_COUNT; state++) {
+            TOTAL[state] = (byte) (isSoft(state) ? hardTotal(state) + 10 : hardTotal(state));
+            for (int rank = 2; rank <= 11; rank++) {
+                NEXT[state * RANK_COUNT + rank - 2] = (short) computeNext(state, rank);
+            }
+        }
+    }
+
+    private HandState() {
+    }
+
+    /**
+     * @param state current state of the hand.
+     * @param cardRank rank of the added card as in {@link agprojects.blackjack.models.card.Rank} - 2 to 11.
+     * @return the state of the hand after the card is added.
+     */
+    public static int next(int state, int cardRank) {
+        return NEXT[state * RANK_COUNT + cardRank - 2];
+    }
+
+    public static int hardTotal(int state) {
+        return state & HARD_TOTAL_MASK;
+    }
+
+    /**
+     * @return the best total of the hand - soft Aces counted as 11.
+     */
+    public static int total(int state) {
+        return TOTAL[state];
+    }
+
+    public static boolean isSoft(int state) {
+        return (state & SOFT) != 0;
+    }
+
+    public static boolean isPair(int state) {
+        return (state & PAIR) != 0;
+    }
+
+    /**
+     * @return rank of the paired cards (11 for Aces) or 0 if the state is not a pair.
+     */
+    public static int pairRank(int state) {
+        if (!isPair(state)) {
+            return 0;
+        }
+        int hardTotal = hardTotal(state);
+        return hardTotal == 2 ? 11 : hardTotal / 2;
+    }
+
+    /**
+     * @return 0, 1, 2 or 3 for three and more cards.
+     */
+    public static int cardCountBucket(int state) {
+        return (state >>> COUNT_SHIFT) & COUNT_MASK;
+    }
+
+    public static boolean isBlackJack(int state) {
+        return (state & BLACKJACK) != 0;
+    }
+
+    public static boolean isBust(int state) {
+        return (state & BUST) != 0;
+    }
+
+    /**
+     * Encodes a state from its parts.
+     */
+    public static int of(int hardTotal, boolean soft, boolean pair, int cardCount, boolean blackJack, boolean bust) {
+        int state = Math.min(hardTotal, MAX_HARD_TOTAL) | (Math.min(cardCount, COUNT_MASK) << COUNT_SHIFT);
+        if (soft) {
+            state |= SOFT;
+        }
+        if (pair) {
+            state |= PAIR;
+        }
+        if (blackJack) {
+            state |= BLACKJACK;
+        }
+        if (bust) {
+            state |= BUST;
+        }
+        return state;
+    }
+
+    /**
+     * Branching logic of adding one card, only used to fill the transition table.
+     * A busted hand stays as it is.
+     */
+    private static int computeNext(int state, int cardRank) {
+        if (isBust(state)) {
+            return state;
+        }
+        boolean ace = cardRank == 11;
+        int cardValue = ace ? 1 : cardRank;
+        int countBucket = cardCountBucket(state);
+        int hardTotal = hardTotal(state) + cardValue;
+        int cardCount = countBucket + 1;
+
+        boolean soft = (isSoft(state) || ace) && hardTotal + 10 <= 21;
+        boolean pair = countBucket == 1 && cardValue == hardTotal(state);
+        boolean blackJack = cardCount == 2 && soft && hardTotal == 11;
+
+        return of(hardTotal, soft, pair, cardCount, blackJack, hardTotal > 21);
+    }
+}
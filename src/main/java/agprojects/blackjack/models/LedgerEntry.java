@@ -0,0 +1,78 @@
+package agprojects.blackjack.models;
+
+import javax.persistence.*;
+import javax.persistence.Table;
+import java.time.Instant;
+
+/**
+ * One change of a player's balance. Entries are only ever appended, so the balance of a player
+ * can be audited by adding up the amounts of their entries.
+ * Amounts are in minor units (cents).
+ */
+@Entity
+@Table(name = "ledger_entries", indexes = @Index(name = "ledger_entries_player", columnList = "playerId"))
+public class LedgerEntry {
+
+    /**
+     * Ids are taken from a pooled sequence, so a batch of entries is inserted without a round trip per id.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ledger_entry_seq")
+    @SequenceGenerator(name = "ledger_entry_seq", sequenceName = "ledger_entry_seq", allocationSize = 50)
+    @Column(name = "id")
+    private long entryId;
+
+    @Column(name = "playerId", nullable = false)
+    private int playerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private LedgerEntryType type;
+
+    /**
+     * Positive for money added to the balance, negative for money taken from it.
+     */
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    @Column(name = "balanceAfter", nullable = false)
+    private long balanceAfter;
+
+    @Column(name = "createdAt", nullable = false)
+    private Instant createdAt;
+
+    public LedgerEntry() {
+    }
+
+    public LedgerEntry(int playerId, LedgerEntryType type, long amount, long balanceAfter) {
+        this.playerId = playerId;
+        this.type = type;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.createdAt = Instant.now();
+    }
+
+    public long getEntryId() {
+        return entryId;
+    }
+
+    public int getPlayerId() {
+        return playerId;
+    }
+
+    public LedgerEntryType getType() {
+        return type;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public long getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,19 @@
+package agprojects.blackjack.models;
+
+/**
+ * Kind of change of a player's balance.
+ */
+public enum LedgerEntryType {
+    /**
+     * Money added to the balance by the player.
+     */
+    CREDIT,
+    /**
+     * Money taken from the balance for a bet, a double down or a split.
+     */
+    BET,
+    /**
+     * Bet and winnings returned to the balance when a hand is settled.
+     */
+    PAYOUT
+}
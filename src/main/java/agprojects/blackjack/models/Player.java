@@ -22,14 +22,35 @@ public class Player {
     @Column(name = "name")
     private String name;
 
+    /**
+     * Id of the table the player is seated at, 0 if the player is not seated.
+     */
+    @Column(name = "tableId")
+    private int tableId;
+
     @Column(name = "seatNumber")
     private int seatNumber;
 
-    @Column(name = "balance")
-    private double balance;
+    /**
+     * Balance in minor units (cents) - the running total of the player's ledger entries.
+     * The wallet owns the balance while the application runs and writes it in the background,
+     * so saving a player never overwrites a newer balance.
+     */
+    @Column(name = "balance", updatable = false)
+    private long balance;
 
+    /**
+     * Money in play in minor units (cents).
+     */
     @Column(name = "bet")
-    private double bet;
+    private long bet;
+
+    /**
+     * Incremented on every update, a save of a stale copy of the player fails instead of overwriting newer changes.
+     */
+    @Version
+    @Column(name = "version")
+    private long version;
 
     /**
      * List that holds the current hands of the player.
@@ -54,6 +75,14 @@ public class Player {
         this.name = name;
     }
 
+    public int getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
     public int getSeatNumber() {
         return seatNumber;
     }
@@ -62,19 +91,27 @@ public class Player {
         this.seatNumber = seatNumber;
     }
 
-    public double getBalance() {
+    public long getBalance() {
         return balance;
     }
 
-    public void setBalance(double balance) {
+    public void setBalance(long balance) {
         this.balance = balance;
     }
 
-    public double getBet() {
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public long getBet() {
         return bet;
     }
 
-    public void setBet(double bet) {
+    public void setBet(long bet) {
         this.bet = bet;
     }
 
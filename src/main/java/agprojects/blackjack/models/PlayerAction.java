@@ -0,0 +1,12 @@
+package agprojects.blackjack.models;
+
+/**
+ * Decisions a player can make on a hand.
+ */
+public enum PlayerAction {
+    HIT,
+    STAND,
+    DOUBLE,
+    SPLIT,
+    SURRENDER
+}
@@ -0,0 +1,43 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+
+/**
+ * Source of the cards the dealer deals from.
+ *
+ * @see Deck
+ * @see ContinuousShuffler
+ */
+public interface Shoe {
+
+    /**
+     * @return removes the next card from the shoe.
+     */
+    Card getCard();
+
+    /**
+     * @return the number of cards still available in the shoe.
+     */
+    int getNumberOfCards();
+
+    /**
+     * @return true if the shoe is due to be replaced before the next round.
+     */
+    boolean isCutCardReached();
+
+    /**
+     * @return remaining cards per rank and the running count, kept up to date on every draw.
+     */
+    ShoeComposition getComposition();
+
+    /**
+     * @return seed of the random stream the shoe was shuffled with.
+     */
+    long getSeed();
+
+    /**
+     * Takes back a card from a finished hand.
+     * @param card Card object.
+     */
+    void discard(Card card);
+}
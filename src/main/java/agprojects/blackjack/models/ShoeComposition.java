@@ -0,0 +1,110 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+
+/**
+ * Remaining cards in a shoe per rank and the running Hi-Lo count,
+ * updated in constant time whenever a card leaves or returns to the shoe.
+ * Ranks are indexed from 0 (Two) to 8 (all ten valued cards) and 9 (Ace).
+ */
+public final class ShoeComposition {
+
+    public static final int RANK_COUNT = 10;
+
+    private static final int CARDS_IN_DECK = 52;
+
+    /**
+     * Hi-Lo value of a card leaving the shoe per rank index - low cards +1, 7 to 9 zero, tens and Aces -1.
+     */
+    private static final int[] HI_LO = {1, 1, 1, 1, 1, 0, 0, 0, -1, -1};
+
+    private final int[] remaining = new int[RANK_COUNT];
+
+    private final int numberOfDecks;
+
+    private int cardsRemaining;
+
+    private int runningCount;
+
+    public ShoeComposition(int numberOfDecks) {
+        this.numberOfDecks = numberOfDecks;
+        reset();
+    }
+
+    /**
+     * @param cardRank rank of a card as in {@link agprojects.blackjack.models.card.Rank} - 2 to 11.
+     * @return the index of the rank in the composition.
+     */
+    public static int rankIndex(int cardRank) {
+        return cardRank - 2;
+    }
+
+    /**
+     * Puts all cards back - used when the shoe is reshuffled.
+     */
+    public void reset() {
+        for (int i = 0; i < RANK_COUNT; i++) {
+            remaining[i] = 4 * numberOfDecks;
+        }
+        remaining[rankIndex(10)] = 16 * numberOfDecks;
+        cardsRemaining = CARDS_IN_DECK * numberOfDecks;
+        runningCount = 0;
+    }
+
+    /**
+     * A card left the shoe.
+     */
+    public void remove(Card card) {
+        int rankIndex = rankIndex(card.getRank());
+        remaining[rankIndex]--;
+        cardsRemaining--;
+        runningCount += HI_LO[rankIndex];
+    }
+
+    /**
+     * A card went back into the shoe.
+     */
+    public void add(Card card) {
+        int rankIndex = rankIndex(card.getRank());
+        remaining[rankIndex]++;
+        cardsRemaining++;
+        runningCount -= HI_LO[rankIndex];
+    }
+
+    /**
+     * @param rankIndex index of the rank - 0 (Two) to 9 (Ace).
+     * @return number of cards of the rank still in the shoe.
+     */
+    public int getRemaining(int rankIndex) {
+        return remaining[rankIndex];
+    }
+
+    /**
+     * @return copy of the remaining cards per rank index.
+     */
+    public int[] copyRemaining() {
+        return remaining.clone();
+    }
+
+    public int getCardsRemaining() {
+        return cardsRemaining;
+    }
+
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    /**
+     * @return the running count divided by the number of decks still in the shoe.
+     */
+    public double getTrueCount() {
+        if (cardsRemaining == 0) {
+            return 0;
+        }
+        return runningCount / (cardsRemaining / (double) CARDS_IN_DECK);
+    }
+}
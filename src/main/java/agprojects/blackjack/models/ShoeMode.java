@@ -0,0 +1,17 @@
+package agprojects.blackjack.models;
+
+/**
+ * The kind of shoe a table deals from.
+ */
+public enum ShoeMode {
+    /**
+     * A shuffled shoe that is replaced once the cut card comes out.
+     * @see Deck
+     */
+    CLASSIC,
+    /**
+     * A continuous shuffling machine - finished hands go straight back into the shoe.
+     * @see ContinuousShuffler
+     */
+    CONTINUOUS
+}
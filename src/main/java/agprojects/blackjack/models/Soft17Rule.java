@@ -0,0 +1,36 @@
+package agprojects.blackjack.models;
+
+/**
+ * Table rule that decides whether the dealer draws on a soft 17.
+ * The decision for every hand state is precomputed, so the dealer only reads one value per draw.
+ */
+public enum Soft17Rule {
+    /**
+     * Dealer stands on all 17s (S17).
+     */
+    STAND(false),
+    /**
+     * Dealer hits soft 17 (H17).
+     */
+    HIT(true);
+
+    private final boolean[] mustDraw = new boolean[HandState.STATE_COUNT];
+
+    Soft17Rule(boolean hitSoft17) {
+        for (int state = 0; state < HandState.STATE_COUNT; state++) {
+            int total = HandState.total(state);
+            boolean finished = HandState.isBust(state) || HandState.isBlackJack(state);
+            boolean soft17 = total == 17 && HandState.isSoft(state);
+            mustDraw[state] = !finished && (total < 17 || (hitSoft17 && soft17));
+        }
+    }
+
+    /**
+     * @param handState state of the dealer's hand.
+     * @return true if the dealer has to draw another card.
+     * @see HandState
+     */
+    public boolean mustDraw(int handState) {
+        return mustDraw[handState];
+    }
+}
@@ -1,39 +1,131 @@
 package agprojects.blackjack.models;
 
 import agprojects.blackjack.exceptions.ApiRequestException;
-import org.springframework.stereotype.Component;
+import agprojects.blackjack.models.rng.RngType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
-@Component
+/**
+ * One BlackJack table - its seats and its own dealer with his shoe and hand.
+ * Tables share nothing with each other, so rounds at different tables never wait for one another.
+ * A seat is claimed with a single compare-and-set, so concurrent joins never take the same seat,
+ * and the free seats are kept in a bitmask that can be read without looking at the seats.
+ */
 public class Table {
 
-    private final ArrayList<Seat> playerSeats;
+    public static final int MAX_BLACKJACK_SEATS = 5;
 
-    private static final int MAX_BLACKJACK_SEATS = 5;
+    public static final String SEAT_TAKEN = "Seat number: %s is already taken";
 
-    public Table() {
-        ArrayList<Seat> seats = new ArrayList<>();
-        for (int i = 0; i < MAX_BLACKJACK_SEATS; i++) {
-            Seat seat = new Seat(i+1,false);
-            seats.add(seat);
-        }
-        this.playerSeats = seats;
+    public static final String SEAT_NOT_FOUND = "Seat number: %s does not exist, seats are numbered from 1 to " + MAX_BLACKJACK_SEATS;
+
+    public static final String SEAT_NOT_TAKEN_BY_PLAYER = "Seat number: %s is not taken by player with id: %s";
+
+    /**
+     * All seats free - bit n - 1 is set while seat n is free.
+     */
+    private static final int ALL_SEATS_FREE = (1 << MAX_BLACKJACK_SEATS) - 1;
+
+    private final int tableId;
+
+    private final Dealer dealer;
+
+    /**
+     * Kind of generator the shoes of this table are shuffled with.
+     */
+    private final RngType rngType;
+
+    /**
+     * Player in every seat, null for a free seat.
+     */
+    private final AtomicReferenceArray<Player> playerSeats = new AtomicReferenceArray<>(MAX_BLACKJACK_SEATS);
+
+    private final AtomicInteger freeSeatMask = new AtomicInteger(ALL_SEATS_FREE);
+
+    public Table(int tableId, Dealer dealer) {
+        this(tableId, dealer, RngType.FAST);
+    }
+
+    public Table(int tableId, Dealer dealer, RngType rngType) {
+        this.tableId = tableId;
+        this.dealer = dealer;
+        this.rngType = rngType;
     }
 
+    /**
+     * Seats a player, the seat is claimed with one compare-and-set so only one of two concurrent joins can win it.
+     * @param seatNumber number of the seat, from 1 to 5.
+     * @param player the player to be seated.
+     * @return message for the seated player.
+     */
     public String sitPlayer(int seatNumber, Player player){
-        if(this.playerSeats.get(seatNumber).isTaken()){
-            throw  new ApiRequestException("This seat is already taken");
-        }else {
-            this.playerSeats.get(seatNumber).sitPlayer(player);
-            player.setSeatNumber(seatNumber);
-            playerSeats.get(seatNumber).setTaken(true);
-            return "Player " + player.getName() + " has been seated successfully";
+        int seatIndex = toSeatIndex(seatNumber);
+        if(!playerSeats.compareAndSet(seatIndex, null, player)){
+            throw new ApiRequestException(String.format(SEAT_TAKEN, seatNumber));
         }
+        freeSeatMask.getAndUpdate(mask -> mask & ~(1 << seatIndex));
+        player.setSeatNumber(seatNumber);
+        player.setTableId(tableId);
+        return "Player " + player.getName() + " has been seated successfully";
     }
 
-    public List<Seat> getPlayerSeats() {
-        return playerSeats;
+    /**
+     * Frees the seat of a player that leaves the table.
+     * @param seatNumber number of the seat, from 1 to 5.
+     * @param player the player sitting in the seat.
+     */
+    public void standUp(int seatNumber, Player player){
+        int seatIndex = toSeatIndex(seatNumber);
+        Player seatedPlayer = playerSeats.get(seatIndex);
+        if(seatedPlayer == null || seatedPlayer.getPlayerId() != player.getPlayerId()
+                || !playerSeats.compareAndSet(seatIndex, seatedPlayer, null)){
+            throw new ApiRequestException(String.format(SEAT_NOT_TAKEN_BY_PLAYER, seatNumber, player.getPlayerId()));
+        }
+        freeSeatMask.getAndUpdate(mask -> mask | (1 << seatIndex));
+        player.setSeatNumber(0);
+        player.setTableId(0);
+    }
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public Dealer getDealer() {
+        return dealer;
+    }
+
+    public RngType getRngType() {
+        return rngType;
+    }
+
+    /**
+     * @param seatNumber number of the seat, from 1 to 5.
+     * @return the player in the seat or null if the seat is free.
+     */
+    public Player getPlayer(int seatNumber) {
+        return playerSeats.get(toSeatIndex(seatNumber));
+    }
+
+    public int getNumberOfSeats() {
+        return MAX_BLACKJACK_SEATS;
+    }
+
+    /**
+     * @return the free seats - bit n - 1 is set while seat n is free.
+     */
+    public int getFreeSeatMask() {
+        return freeSeatMask.get();
+    }
+
+    public int getSeatsTaken() {
+        return MAX_BLACKJACK_SEATS - Integer.bitCount(freeSeatMask.get());
+    }
+
+    private static int toSeatIndex(int seatNumber) {
+        if(seatNumber < 1 || seatNumber > MAX_BLACKJACK_SEATS){
+            throw new ApiRequestException(String.format(SEAT_NOT_FOUND, seatNumber));
+        }
+        return seatNumber - 1;
     }
 }
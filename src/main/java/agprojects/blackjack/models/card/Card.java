@@ -1,13 +1,40 @@
 package agprojects.blackjack.models.card;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import javax.persistence.*;
 import java.io.Serializable;
 
 /**
  * Wrapper class used to store information about a card.
+ * There is exactly one Card instance per CardType, obtained through {@link #of(CardType)},
+ * so two cards are equal only if they are the same instance.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public final class Card implements Serializable {
 
+    /**
+     * The id Java computed for the Card class before it was pinned, so cards serialized by earlier versions can still be read.
+     */
+    private static final long serialVersionUID = -7334476967446537814L;
+
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private static final Card[] CARDS = new Card[CARD_TYPES.length];
+
+    private static final int[] RANKS = new int[CARD_TYPES.length];
+
+    private static final boolean[] ACES = new boolean[CARD_TYPES.length];
+
+    static {
+        for (CardType cardType : CARD_TYPES) {
+            CARDS[cardType.ordinal()] = new Card(cardType);
+            RANKS[cardType.ordinal()] = cardType.getRank().getCardRank();
+            ACES[cardType.ordinal()] = cardType.getRank() == Rank.ACE;
+        }
+    }
 
     /**
      * The type of card (Rank and Suit).
@@ -17,19 +44,43 @@ public final class Card implements Serializable {
     @Enumerated(EnumType.STRING)
     private final CardType name;
 
-    public Card(CardType name) {
+    private Card(CardType name) {
         this.name = name;
     }
 
+    /**
+     * @param name the type of card.
+     * @return the shared Card instance for the given CardType.
+     */
+    @JsonCreator
+    public static Card of(@JsonProperty("name") CardType name) {
+        return CARDS[name.ordinal()];
+    }
+
+    /**
+     * @param ordinal ordinal of the CardType.
+     * @return the shared Card instance for the given CardType ordinal.
+     */
+    public static Card of(int ordinal) {
+        return CARDS[ordinal];
+    }
+
     public CardType getName() {
         return name;
     }
 
     public int getRank() {
-        return name.getRank().getCardRank();
+        return RANKS[name.ordinal()];
     }
 
     public boolean isAce(){
-        return name.getRank().getCardRank() == 11;
+        return ACES[name.ordinal()];
+    }
+
+    /**
+     * Replaces deserialized copies (for example hands loaded from the database) with the shared instance.
+     */
+    private Object readResolve() {
+        return of(name);
     }
-}
\ No newline at end of file
+}
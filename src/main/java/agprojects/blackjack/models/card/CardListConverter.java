@@ -0,0 +1,101 @@
+package agprojects.blackjack.models.card;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores the cards of a hand as one byte per card - the ordinal of its CardType.
+ * Hands that were saved before as a Java serialized list are still read, they are recognised by the
+ * serialization stream magic, which can never start a list of ordinals.
+ */
+@Converter
+public class CardListConverter implements AttributeConverter<List<Card>, byte[]> {
+
+    private static final byte SERIALIZATION_MAGIC_FIRST = (byte) 0xAC;
+
+    private static final byte SERIALIZATION_MAGIC_SECOND = (byte) 0xED;
+
+    /**
+     * The only classes a legacy serialized hand may contain.
+     */
+    private static final Set<String> LEGACY_CLASSES = new HashSet<>(Arrays.asList(
+            ArrayList.class.getName(), Card.class.getName(), CardType.class.getName(), Enum.class.getName()));
+
+    @Override
+    public byte[] convertToDatabaseColumn(List<Card> cards) {
+        if (cards == null) {
+            return null;
+        }
+        byte[] ordinals = new byte[cards.size()];
+        for (int i = 0; i < ordinals.length; i++) {
+            ordinals[i] = (byte) cards.get(i).getName().ordinal();
+        }
+        return ordinals;
+    }
+
+    @Override
+    public List<Card> convertToEntityAttribute(byte[] ordinals) {
+        if (ordinals == null) {
+            return new ArrayList<>();
+        }
+        if (isLegacy(ordinals)) {
+            return readLegacy(ordinals);
+        }
+        List<Card> cards = new ArrayList<>(ordinals.length);
+        for (byte ordinal : ordinals) {
+            cards.add(Card.of(ordinal));
+        }
+        return cards;
+    }
+
+    /**
+     * @return true if the column holds a Java serialized list written before the compact encoding.
+     */
+    public static boolean isLegacy(byte[] column) {
+        return column != null && column.length >= 2
+                && column[0] == SERIALIZATION_MAGIC_FIRST && column[1] == SERIALIZATION_MAGIC_SECOND;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Card> readLegacy(byte[] column) {
+        try (ObjectInputStream input = new LegacyHandInputStream(new ByteArrayInputStream(column))) {
+            List<Card> legacyCards = (List<Card>) input.readObject();
+            List<Card> cards = new ArrayList<>(legacyCards.size());
+            for (Card card : legacyCards) {
+                cards.add(Card.of(card.getName()));
+            }
+            return cards;
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException("Cards of the hand could not be read", e);
+        }
+    }
+
+    /**
+     * Reads only the classes of a serialized list of cards, so the column cannot be used to create other objects.
+     */
+    private static final class LegacyHandInputStream extends ObjectInputStream {
+
+        private LegacyHandInputStream(InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass streamClass) throws IOException, ClassNotFoundException {
+            if (!LEGACY_CLASSES.contains(streamClass.getName())) {
+                throw new InvalidClassException(streamClass.getName(), "Unexpected class in the cards of a hand");
+            }
+            return super.resolveClass(streamClass);
+        }
+    }
+}
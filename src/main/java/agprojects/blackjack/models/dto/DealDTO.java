@@ -0,0 +1,33 @@
+package agprojects.blackjack.models.dto;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Hands of a new round - the dealer's hand and the first hand of every seated player by seat number,
+ * copied when the deal finished.
+ */
+public class DealDTO {
+
+    /**
+     * Only set when the dealer was dealt in this round.
+     */
+    private HandDTO dealersHand;
+    private Map<Integer, HandDTO> handsBySeat = new TreeMap<>();
+
+    public HandDTO getDealersHand() {
+        return dealersHand;
+    }
+
+    public void setDealersHand(HandDTO dealersHand) {
+        this.dealersHand = dealersHand;
+    }
+
+    public Map<Integer, HandDTO> getHandsBySeat() {
+        return handsBySeat;
+    }
+
+    public void setHandsBySeat(Map<Integer, HandDTO> handsBySeat) {
+        this.handsBySeat = handsBySeat;
+    }
+}
@@ -0,0 +1,116 @@
+package agprojects.blackjack.models.dto;
+
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.card.Card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Copy of a hand as it was when the copy was made. Hands change on their table's mailbox,
+ * so a response is built from a copy taken inside the table's command and never from the hand itself.
+ */
+public final class HandDTO {
+
+    private final int handId;
+    private final long handBet;
+    private final int handState;
+    private final List<Card> cardsInHand;
+    private final String handValue;
+    private final int total;
+    private final int hardTotal;
+    private final boolean soft;
+    private final int pairRank;
+    private final boolean blackJack;
+    private final boolean splittable;
+    private final boolean bust;
+    private final boolean finished;
+    private final boolean surrendered;
+    private final boolean settled;
+
+    public HandDTO(Hand hand) {
+        this.handId = hand.getHandId();
+        this.handBet = hand.getHandBet();
+        this.handState = hand.getHandState();
+        this.cardsInHand = Collections.unmodifiableList(new ArrayList<>(hand.getCardsInHand()));
+        this.handValue = hand.getHandValue();
+        this.total = hand.getTotal();
+        this.hardTotal = hand.getHardTotal();
+        this.soft = hand.isSoft();
+        this.pairRank = hand.getPairRank();
+        this.blackJack = hand.isBlackJack();
+        this.splittable = hand.isSplittable();
+        this.bust = hand.isBust();
+        this.finished = hand.isFinished();
+        this.surrendered = hand.isSurrendered();
+        this.settled = hand.isSettled();
+    }
+
+    public int getHandId() {
+        return handId;
+    }
+
+    /**
+     * Bet of the hand in minor units (cents).
+     */
+    public long getHandBet() {
+        return handBet;
+    }
+
+    public int getHandState() {
+        return handState;
+    }
+
+    public List<Card> getCardsInHand() {
+        return cardsInHand;
+    }
+
+    public String getHandValue() {
+        return handValue;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getHardTotal() {
+        return hardTotal;
+    }
+
+    public boolean isSoft() {
+        return soft;
+    }
+
+    public int getCardCount() {
+        return cardsInHand.size();
+    }
+
+    public int getPairRank() {
+        return pairRank;
+    }
+
+    public boolean isBlackJack() {
+        return blackJack;
+    }
+
+    public boolean isSplittable() {
+        return splittable;
+    }
+
+    public boolean isBust() {
+        return bust;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public boolean isSurrendered() {
+        return surrendered;
+    }
+
+    public boolean isSettled() {
+        return settled;
+    }
+}
@@ -1,7 +1,6 @@
 package agprojects.blackjack.models.dto;
 
-import agprojects.blackjack.models.Hand;
-
+import com.fasterxml.jackson.annotation.JsonProperty;
 
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotBlank;
@@ -14,11 +13,19 @@ public class PlayerDTO {
     private int playerId;
     @NotBlank(message = "Player name cannot be empty")
     private String name;
+    private int tableId;
     private int seatNumber;
-    private double balance;
-    @Min(value = 2,message = "Bet value cannot be smaller than 2")
-    private double bet;
-    private List<Hand> hands;
+    /**
+     * Balance and bet are in minor units (cents).
+     */
+    private long balance;
+    @Min(value = 200,message = "Bet value cannot be smaller than 200 cents")
+    private long bet;
+    /**
+     * Only sent in responses, a player never brings hands of their own.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private List<HandDTO> hands;
 
     public int getPlayerId() {
         return playerId;
@@ -36,6 +43,14 @@ public class PlayerDTO {
         this.name = name;
     }
 
+    public int getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
     public int getSeatNumber() {
         return seatNumber;
     }
@@ -44,27 +59,27 @@ public class PlayerDTO {
         this.seatNumber = seatNumber;
     }
 
-    public double getBalance() {
+    public long getBalance() {
         return balance;
     }
 
-    public void setBalance(double balance) {
+    public void setBalance(long balance) {
         this.balance = balance;
     }
 
-    public double getBet() {
+    public long getBet() {
         return bet;
     }
 
-    public void setBet(double bet) {
+    public void setBet(long bet) {
         this.bet = bet;
     }
 
-    public List<Hand> getHands() {
+    public List<HandDTO> getHands() {
         return hands;
     }
 
-    public void setHands(List<Hand> hands) {
+    public void setHands(List<HandDTO> hands) {
         this.hands = hands;
     }
 }
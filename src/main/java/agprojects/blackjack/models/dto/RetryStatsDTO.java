@@ -0,0 +1,35 @@
+package agprojects.blackjack.models.dto;
+
+/**
+ * Counters of concurrent player updates - how many conflicted, how many were retried and how many gave up.
+ */
+public class RetryStatsDTO {
+
+    private long conflicts;
+    private long retries;
+    private long exhausted;
+
+    public long getConflicts() {
+        return conflicts;
+    }
+
+    public void setConflicts(long conflicts) {
+        this.conflicts = conflicts;
+    }
+
+    public long getRetries() {
+        return retries;
+    }
+
+    public void setRetries(long retries) {
+        this.retries = retries;
+    }
+
+    public long getExhausted() {
+        return exhausted;
+    }
+
+    public void setExhausted(long exhausted) {
+        this.exhausted = exhausted;
+    }
+}
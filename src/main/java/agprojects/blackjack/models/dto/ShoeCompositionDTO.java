@@ -0,0 +1,46 @@
+package agprojects.blackjack.models.dto;
+
+import java.util.Map;
+
+/**
+ * Snapshot of the cards left in the dealer's shoe and the running and true Hi-Lo count.
+ */
+public class ShoeCompositionDTO {
+
+    private int cardsRemaining;
+    private Map<String, Integer> remainingByRank;
+    private int runningCount;
+    private double trueCount;
+
+    public int getCardsRemaining() {
+        return cardsRemaining;
+    }
+
+    public void setCardsRemaining(int cardsRemaining) {
+        this.cardsRemaining = cardsRemaining;
+    }
+
+    public Map<String, Integer> getRemainingByRank() {
+        return remainingByRank;
+    }
+
+    public void setRemainingByRank(Map<String, Integer> remainingByRank) {
+        this.remainingByRank = remainingByRank;
+    }
+
+    public int getRunningCount() {
+        return runningCount;
+    }
+
+    public void setRunningCount(int runningCount) {
+        this.runningCount = runningCount;
+    }
+
+    public double getTrueCount() {
+        return trueCount;
+    }
+
+    public void setTrueCount(double trueCount) {
+        this.trueCount = trueCount;
+    }
+}
@@ -0,0 +1,62 @@
+package agprojects.blackjack.models.dto;
+
+/**
+ * Snapshot of the pre-shuffled shoe pool - how many shoes are ready and how long shuffling takes.
+ */
+public class ShoePoolStatsDTO {
+
+    private int poolDepth;
+    private int poolCapacity;
+    private long shufflesCompleted;
+    private long poolMisses;
+    private long averageShuffleNanos;
+    private long maxShuffleNanos;
+
+    public int getPoolDepth() {
+        return poolDepth;
+    }
+
+    public void setPoolDepth(int poolDepth) {
+        this.poolDepth = poolDepth;
+    }
+
+    public int getPoolCapacity() {
+        return poolCapacity;
+    }
+
+    public void setPoolCapacity(int poolCapacity) {
+        this.poolCapacity = poolCapacity;
+    }
+
+    public long getShufflesCompleted() {
+        return shufflesCompleted;
+    }
+
+    public void setShufflesCompleted(long shufflesCompleted) {
+        this.shufflesCompleted = shufflesCompleted;
+    }
+
+    public long getPoolMisses() {
+        return poolMisses;
+    }
+
+    public void setPoolMisses(long poolMisses) {
+        this.poolMisses = poolMisses;
+    }
+
+    public long getAverageShuffleNanos() {
+        return averageShuffleNanos;
+    }
+
+    public void setAverageShuffleNanos(long averageShuffleNanos) {
+        this.averageShuffleNanos = averageShuffleNanos;
+    }
+
+    public long getMaxShuffleNanos() {
+        return maxShuffleNanos;
+    }
+
+    public void setMaxShuffleNanos(long maxShuffleNanos) {
+        this.maxShuffleNanos = maxShuffleNanos;
+    }
+}
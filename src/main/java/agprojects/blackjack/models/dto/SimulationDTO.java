@@ -0,0 +1,172 @@
+package agprojects.blackjack.models.dto;
+
+import agprojects.blackjack.simulation.SimulationStatus;
+
+/**
+ * Progress of a simulation job and, once it is completed, its results per round of one unit bet.
+ */
+public class SimulationDTO {
+
+    private int id;
+    private SimulationStatus status;
+    private long seed;
+    private long rounds;
+    private long roundsCompleted;
+    private double progress;
+    private long elapsedMillis;
+    private String error;
+    private Double houseEdge;
+    private Double standardError;
+    private Double variance;
+    private Double playerBlackJackFrequency;
+    private Double dealerBlackJackFrequency;
+    private Double playerBustFrequency;
+    private Double dealerBustFrequency;
+    private Double doubleFrequency;
+    private Double splitFrequency;
+    private Double surrenderFrequency;
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SimulationStatus status) {
+        this.status = status;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(long rounds) {
+        this.rounds = rounds;
+    }
+
+    public long getRoundsCompleted() {
+        return roundsCompleted;
+    }
+
+    public void setRoundsCompleted(long roundsCompleted) {
+        this.roundsCompleted = roundsCompleted;
+    }
+
+    public double getProgress() {
+        return progress;
+    }
+
+    public void setProgress(double progress) {
+        this.progress = progress;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public Double getHouseEdge() {
+        return houseEdge;
+    }
+
+    public void setHouseEdge(Double houseEdge) {
+        this.houseEdge = houseEdge;
+    }
+
+    public Double getStandardError() {
+        return standardError;
+    }
+
+    public void setStandardError(Double standardError) {
+        this.standardError = standardError;
+    }
+
+    public Double getVariance() {
+        return variance;
+    }
+
+    public void setVariance(Double variance) {
+        this.variance = variance;
+    }
+
+    public Double getPlayerBlackJackFrequency() {
+        return playerBlackJackFrequency;
+    }
+
+    public void setPlayerBlackJackFrequency(Double playerBlackJackFrequency) {
+        this.playerBlackJackFrequency = playerBlackJackFrequency;
+    }
+
+    public Double getDealerBlackJackFrequency() {
+        return dealerBlackJackFrequency;
+    }
+
+    public void setDealerBlackJackFrequency(Double dealerBlackJackFrequency) {
+        this.dealerBlackJackFrequency = dealerBlackJackFrequency;
+    }
+
+    public Double getPlayerBustFrequency() {
+        return playerBustFrequency;
+    }
+
+    public void setPlayerBustFrequency(Double playerBustFrequency) {
+        this.playerBustFrequency = playerBustFrequency;
+    }
+
+    public Double getDealerBustFrequency() {
+        return dealerBustFrequency;
+    }
+
+    public void setDealerBustFrequency(Double dealerBustFrequency) {
+        this.dealerBustFrequency = dealerBustFrequency;
+    }
+
+    public Double getDoubleFrequency() {
+        return doubleFrequency;
+    }
+
+    public void setDoubleFrequency(Double doubleFrequency) {
+        this.doubleFrequency = doubleFrequency;
+    }
+
+    public Double getSplitFrequency() {
+        return splitFrequency;
+    }
+
+    public void setSplitFrequency(Double splitFrequency) {
+        this.splitFrequency = splitFrequency;
+    }
+
+    public Double getSurrenderFrequency() {
+        return surrenderFrequency;
+    }
+
+    public void setSurrenderFrequency(Double surrenderFrequency) {
+        this.surrenderFrequency = surrenderFrequency;
+    }
+}
@@ -0,0 +1,101 @@
+package agprojects.blackjack.models.dto;
+
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.rng.RngType;
+
+/**
+ * Rules of a simulation to start - every rule that is left out keeps the default of the game.
+ */
+public class SimulationRequestDTO {
+
+    private long rounds;
+    private int numberOfDecks = 6;
+    private double penetration = 0.75;
+    private Soft17Rule soft17Rule = Soft17Rule.STAND;
+    private double blackJackPayout = 1.5;
+    private boolean doubleAfterSplit = true;
+    private boolean surrenderAllowed = true;
+    private int maxHands = 4;
+    private RngType rngType = RngType.FAST;
+    private Long seed;
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(long rounds) {
+        this.rounds = rounds;
+    }
+
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    public void setNumberOfDecks(int numberOfDecks) {
+        this.numberOfDecks = numberOfDecks;
+    }
+
+    public double getPenetration() {
+        return penetration;
+    }
+
+    public void setPenetration(double penetration) {
+        this.penetration = penetration;
+    }
+
+    public Soft17Rule getSoft17Rule() {
+        return soft17Rule;
+    }
+
+    public void setSoft17Rule(Soft17Rule soft17Rule) {
+        this.soft17Rule = soft17Rule;
+    }
+
+    public double getBlackJackPayout() {
+        return blackJackPayout;
+    }
+
+    public void setBlackJackPayout(double blackJackPayout) {
+        this.blackJackPayout = blackJackPayout;
+    }
+
+    public boolean isDoubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    public void setDoubleAfterSplit(boolean doubleAfterSplit) {
+        this.doubleAfterSplit = doubleAfterSplit;
+    }
+
+    public boolean isSurrenderAllowed() {
+        return surrenderAllowed;
+    }
+
+    public void setSurrenderAllowed(boolean surrenderAllowed) {
+        this.surrenderAllowed = surrenderAllowed;
+    }
+
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    public void setMaxHands(int maxHands) {
+        this.maxHands = maxHands;
+    }
+
+    public RngType getRngType() {
+        return rngType;
+    }
+
+    public void setRngType(RngType rngType) {
+        this.rngType = rngType;
+    }
+
+    public Long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(Long seed) {
+        this.seed = seed;
+    }
+}
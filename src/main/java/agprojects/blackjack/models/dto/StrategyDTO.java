@@ -0,0 +1,58 @@
+package agprojects.blackjack.models.dto;
+
+import agprojects.blackjack.models.PlayerAction;
+
+import java.util.Map;
+
+/**
+ * Recommended decision for a hand and the expected value of every allowed decision.
+ */
+public class StrategyDTO {
+
+    /**
+     * Expected values were calculated from the current shoe composition.
+     */
+    public static final String SOURCE_COMPOSITION = "COMPOSITION";
+
+    /**
+     * The calculation did not fit into the latency budget, the decision comes from the basic strategy chart.
+     */
+    public static final String SOURCE_BASIC_STRATEGY = "BASIC_STRATEGY";
+
+    private int handId;
+    private PlayerAction recommendedAction;
+    private Map<PlayerAction, Double> expectedValues;
+    private String source;
+
+    public int getHandId() {
+        return handId;
+    }
+
+    public void setHandId(int handId) {
+        this.handId = handId;
+    }
+
+    public PlayerAction getRecommendedAction() {
+        return recommendedAction;
+    }
+
+    public void setRecommendedAction(PlayerAction recommendedAction) {
+        this.recommendedAction = recommendedAction;
+    }
+
+    public Map<PlayerAction, Double> getExpectedValues() {
+        return expectedValues;
+    }
+
+    public void setExpectedValues(Map<PlayerAction, Double> expectedValues) {
+        this.expectedValues = expectedValues;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public void setSource(String source) {
+        this.source = source;
+    }
+}
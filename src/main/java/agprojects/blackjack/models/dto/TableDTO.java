@@ -0,0 +1,78 @@
+package agprojects.blackjack.models.dto;
+
+import agprojects.blackjack.models.ShoeMode;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.rng.RngType;
+
+/**
+ * Rules of a table. When a table is created, the rules that are left out get the configured defaults.
+ */
+public class TableDTO {
+
+    private int tableId;
+    private Soft17Rule soft17Rule;
+    private ShoeMode shoeMode;
+    private RngType rngType;
+    private int numberOfSeats;
+    private int seatsTaken;
+    /**
+     * Bit n - 1 is set while seat n is free.
+     */
+    private int freeSeatMask;
+
+    public int getTableId() {
+        return tableId;
+    }
+
+    public void setTableId(int tableId) {
+        this.tableId = tableId;
+    }
+
+    public Soft17Rule getSoft17Rule() {
+        return soft17Rule;
+    }
+
+    public void setSoft17Rule(Soft17Rule soft17Rule) {
+        this.soft17Rule = soft17Rule;
+    }
+
+    public ShoeMode getShoeMode() {
+        return shoeMode;
+    }
+
+    public void setShoeMode(ShoeMode shoeMode) {
+        this.shoeMode = shoeMode;
+    }
+
+    public RngType getRngType() {
+        return rngType;
+    }
+
+    public void setRngType(RngType rngType) {
+        this.rngType = rngType;
+    }
+
+    public int getNumberOfSeats() {
+        return numberOfSeats;
+    }
+
+    public void setNumberOfSeats(int numberOfSeats) {
+        this.numberOfSeats = numberOfSeats;
+    }
+
+    public int getSeatsTaken() {
+        return seatsTaken;
+    }
+
+    public void setSeatsTaken(int seatsTaken) {
+        this.seatsTaken = seatsTaken;
+    }
+
+    public int getFreeSeatMask() {
+        return freeSeatMask;
+    }
+
+    public void setFreeSeatMask(int freeSeatMask) {
+        this.freeSeatMask = freeSeatMask;
+    }
+}
@@ -0,0 +1,19 @@
+package agprojects.blackjack.models.rng;
+
+/**
+ * Seeded source of random numbers used to shuffle and draw cards.
+ * The same seed always produces the same sequence, so a shoe can be reproduced from its seed.
+ */
+public interface RandomStream {
+
+    /**
+     * @param bound upper bound (exclusive), must be positive.
+     * @return uniformly distributed number between 0 (inclusive) and bound (exclusive).
+     */
+    int nextInt(int bound);
+
+    /**
+     * @return the seed the stream was created with.
+     */
+    long getSeed();
+}
@@ -0,0 +1,31 @@
+package agprojects.blackjack.models.rng;
+
+/**
+ * Kind of random number generator a table shuffles with.
+ */
+public enum RngType {
+    /**
+     * Seedable and splittable generator - fast and uncontended.
+     */
+    FAST {
+        @Override
+        public RandomStream create(long seed) {
+            return new SplittableRandomStream(seed);
+        }
+    },
+    /**
+     * Cryptographically strong generator for regulated tables.
+     */
+    SECURE {
+        @Override
+        public RandomStream create(long seed) {
+            return new SecureRandomStream(seed);
+        }
+    };
+
+    /**
+     * @param seed seed of the stream.
+     * @return new stream that always produces the same sequence for the same seed.
+     */
+    public abstract RandomStream create(long seed);
+}
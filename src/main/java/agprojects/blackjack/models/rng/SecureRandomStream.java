@@ -0,0 +1,37 @@
+package agprojects.blackjack.models.rng;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+
+/**
+ * Cryptographically strong stream for regulated tables.
+ * The generator is seeded only with the given seed, so the stream can still be replayed from it.
+ */
+public final class SecureRandomStream implements RandomStream {
+
+    private static final String ALGORITHM = "SHA1PRNG";
+
+    private final SecureRandom random;
+
+    private final long seed;
+
+    public SecureRandomStream(long seed) {
+        this.seed = seed;
+        try {
+            this.random = SecureRandom.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+        this.random.setSeed(seed);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
@@ -0,0 +1,28 @@
+package agprojects.blackjack.models.rng;
+
+import java.util.SplittableRandom;
+
+/**
+ * Fast, non thread-safe stream - every shoe gets its own, so there is no contention between tables.
+ */
+public final class SplittableRandomStream implements RandomStream {
+
+    private final SplittableRandom random;
+
+    private final long seed;
+
+    public SplittableRandomStream(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+}
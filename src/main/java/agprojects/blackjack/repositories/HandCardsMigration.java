@@ -0,0 +1,95 @@
+package agprojects.blackjack.repositories;
+
+import agprojects.blackjack.models.card.CardListConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rewrites the cards of hands saved as a Java serialized list into the compact encoding of {@link CardListConverter}.
+ * Walks the hands in pages by id at startup, rows that are already compact are left alone. Once every row is
+ * converted the migration is recorded in the applied_migrations table and later startups skip the scan -
+ * hands saved since then are always compact.
+ */
+@Component
+public class HandCardsMigration implements ApplicationRunner {
+
+    private static final String SELECT_PAGE =
+            "select hand_id, cards_in_hand from hands where hand_id > ? order by hand_id limit ?";
+
+    private static final String UPDATE_CARDS = "update hands set cards_in_hand = ? where hand_id = ?";
+
+    static final String MIGRATION_NAME = "hand-cards-compact";
+
+    private static final String CREATE_APPLIED_MIGRATIONS =
+            "create table if not exists applied_migrations (name varchar(100) primary key)";
+
+    private static final String COUNT_APPLIED = "select count(*) from applied_migrations where name = ?";
+
+    private static final String MARK_APPLIED = "insert into applied_migrations (name) values (?)";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Value("${blackjack.migration.hand-cards.enabled:true}")
+    boolean enabled = true;
+
+    @Value("${blackjack.migration.hand-cards.page-size:500}")
+    int pageSize = 500;
+
+    private final CardListConverter converter = new CardListConverter();
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        jdbcTemplate.execute(CREATE_APPLIED_MIGRATIONS);
+        if (isApplied()) {
+            return;
+        }
+        migrate();
+        jdbcTemplate.update(MARK_APPLIED, MIGRATION_NAME);
+    }
+
+    /**
+     * @return true if an earlier startup already converted every hand.
+     */
+    boolean isApplied() {
+        Integer count = jdbcTemplate.queryForObject(COUNT_APPLIED, Integer.class, MIGRATION_NAME);
+        return count != null && count > 0;
+    }
+
+    /**
+     * @return number of converted hands.
+     */
+    public int migrate() {
+        int converted = 0;
+        int lastHandId = 0;
+        while (true) {
+            List<Object[]> page = jdbcTemplate.query(SELECT_PAGE,
+                    (row, rowNumber) -> new Object[]{row.getInt(1), row.getBytes(2)}, lastHandId, pageSize);
+            if (page.isEmpty()) {
+                return converted;
+            }
+            List<Object[]> updates = new ArrayList<>();
+            for (Object[] hand : page) {
+                byte[] cards = (byte[]) hand[1];
+                if (CardListConverter.isLegacy(cards)) {
+                    updates.add(new Object[]{converter.convertToDatabaseColumn(converter.convertToEntityAttribute(cards)), hand[0]});
+                }
+            }
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_CARDS, updates);
+                converted += updates.size();
+            }
+            lastHandId = (int) page.get(page.size() - 1)[0];
+        }
+    }
+}
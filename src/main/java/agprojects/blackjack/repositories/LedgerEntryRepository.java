@@ -0,0 +1,16 @@
+package agprojects.blackjack.repositories;
+
+import agprojects.blackjack.models.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository class for the balance changes of all players.
+ */
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry,Long> {
+
+    List<LedgerEntry> findByPlayerIdOrderByEntryId(int playerId);
+}
@@ -1,12 +1,46 @@
 package agprojects.blackjack.repositories;
 
 import agprojects.blackjack.models.Player;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Repository class for all Players.
  */
 @Repository
 public interface PlayerRepository extends JpaRepository<Player,Integer> {
+
+    List<Player> findByTableId(int tableId);
+
+    /**
+     * Keyset page of player ids - the ids after the cursor, in order. Only the limit of the pageable is used.
+     */
+    @Query("select p.playerId from Player p where p.playerId > :after order by p.playerId")
+    List<Integer> findPlayerIdsAfter(@Param("after") int after, Pageable pageable);
+
+    /**
+     * Loads the players together with their hands in one query.
+     * A fetch join cannot be limited in SQL, so the page is chosen by {@link #findPlayerIdsAfter} first.
+     */
+    @Query("select distinct p from Player p left join fetch p.hands where p.playerId in :playerIds order by p.playerId")
+    @QueryHints(@QueryHint(name = "hibernate.query.passDistinctThrough", value = "false"))
+    List<Player> findWithHandsByPlayerIdIn(@Param("playerIds") Collection<Integer> playerIds);
+
+    /**
+     * Writes the balance kept by the wallet, the balance column is not written when a player is saved.
+     */
+    @Transactional
+    @Modifying
+    @Query("update Player p set p.balance = :balance where p.playerId = :playerId")
+    int updateBalance(@Param("playerId") int playerId, @Param("balance") long balance);
 }
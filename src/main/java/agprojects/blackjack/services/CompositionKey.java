@@ -0,0 +1,59 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Soft17Rule;
+
+import java.util.Arrays;
+
+/**
+ * Cache key for calculations that depend on the dealer's up card, the cards left in the shoe and the soft 17 rule.
+ */
+final class CompositionKey {
+
+    private final int upCardRank;
+
+    private final int[] remaining;
+
+    private final Soft17Rule soft17Rule;
+
+    private final int hash;
+
+    /**
+     * @param remaining cards left per rank index, the key keeps the array so it must not be changed afterwards.
+     */
+    CompositionKey(int upCardRank, int[] remaining, Soft17Rule soft17Rule) {
+        this.upCardRank = upCardRank;
+        this.remaining = remaining;
+        this.soft17Rule = soft17Rule;
+        this.hash = 31 * (31 * upCardRank + soft17Rule.hashCode()) + Arrays.hashCode(remaining);
+    }
+
+    int getUpCardRank() {
+        return upCardRank;
+    }
+
+    int[] getRemaining() {
+        return remaining;
+    }
+
+    Soft17Rule getSoft17Rule() {
+        return soft17Rule;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompositionKey)) {
+            return false;
+        }
+        CompositionKey other = (CompositionKey) o;
+        return upCardRank == other.upCardRank && soft17Rule == other.soft17Rule
+                && Arrays.equals(remaining, other.remaining);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+}
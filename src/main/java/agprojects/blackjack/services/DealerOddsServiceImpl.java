@@ -0,0 +1,124 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DealerOutcome;
+import agprojects.blackjack.models.HandState;
+import agprojects.blackjack.models.ShoeComposition;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.services.base.DealerOddsService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Calculates the exact distribution of the dealer's final result for an up card and the cards left in the shoe.
+ * The dealer's draws are followed recursively and every sub result is memoized on the hand state and the cards
+ * drawn so far, so the same composition is never evaluated twice. Finished distributions are cached per
+ * up card, composition and soft 17 rule.
+ */
+@Service
+public class DealerOddsServiceImpl implements DealerOddsService {
+
+    private static final int OUTCOME_COUNT = DealerOutcome.values().length;
+
+    /**
+     * Bits used per rank to count the cards the dealer drew, the dealer never draws more than 15 cards of a rank.
+     */
+    private static final int DRAWN_BITS = 5;
+
+    @Value("${blackjack.odds.cache-size:1024}")
+    int cacheSize = 1024;
+
+    private final Map<CompositionKey, double[]> cache = Collections.synchronizedMap(new LinkedHashMap<CompositionKey, double[]>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompositionKey, double[]> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    /**
+     * @param upCardRank rank of the dealer's up card - 2 to 11.
+     * @param remaining cards left in the shoe per rank index, the up card is already taken out.
+     * @param soft17Rule the table's soft 17 rule.
+     * @return probability of every {@link DealerOutcome}, indexed by its ordinal.
+     */
+    @Override
+    public double[] getDealerOutcomes(int upCardRank, int[] remaining, Soft17Rule soft17Rule) {
+        if (upCardRank < 2 || upCardRank > 11) {
+            throw new IllegalArgumentException("Up card rank must be between 2 and 11");
+        }
+        if (remaining.length != ShoeComposition.RANK_COUNT) {
+            throw new IllegalArgumentException("Composition must have " + ShoeComposition.RANK_COUNT + " ranks");
+        }
+        CompositionKey key = new CompositionKey(upCardRank, remaining.clone(), soft17Rule);
+        double[] outcomes = cache.get(key);
+        if (outcomes == null) {
+            outcomes = new Recursion(key.getRemaining(), soft17Rule).play(HandState.next(HandState.EMPTY, upCardRank), 0);
+            cache.put(key, outcomes);
+        }
+        return outcomes.clone();
+    }
+
+    /**
+     * One evaluation of the dealer's draws - holds the composition that is changed while drawing and the memo.
+     */
+    private static final class Recursion {
+
+        private final int[] remaining;
+
+        private final Soft17Rule soft17Rule;
+
+        private final Map<Long, double[]> memo = new HashMap<>();
+
+        private int cardsRemaining;
+
+        Recursion(int[] remaining, Soft17Rule soft17Rule) {
+            this.remaining = remaining.clone();
+            this.soft17Rule = soft17Rule;
+            for (int count : remaining) {
+                cardsRemaining += count;
+            }
+        }
+
+        /**
+         * @param handState current state of the dealer's hand.
+         * @param drawn cards drawn so far - DRAWN_BITS per rank index.
+         * @return distribution of the final result from this state.
+         */
+        double[] play(int handState, long drawn) {
+            double[] outcomes = new double[OUTCOME_COUNT];
+            if (!soft17Rule.mustDraw(handState) || cardsRemaining == 0) {
+                if (HandState.total(handState) >= 17) {
+                    outcomes[DealerOutcome.of(handState).ordinal()] = 1;
+                }
+                return outcomes;
+            }
+            long key = drawn << 11 | handState;
+            double[] memoized = memo.get(key);
+            if (memoized != null) {
+                return memoized;
+            }
+
+            for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+                int count = remaining[rankIndex];
+                if (count == 0) {
+                    continue;
+                }
+                double probability = count / (double) cardsRemaining;
+                remaining[rankIndex]--;
+                cardsRemaining--;
+                double[] next = play(HandState.next(handState, rankIndex + 2), drawn + (1L << (rankIndex * DRAWN_BITS)));
+                remaining[rankIndex]++;
+                cardsRemaining++;
+                for (int outcome = 0; outcome < OUTCOME_COUNT; outcome++) {
+                    outcomes[outcome] += probability * next[outcome];
+                }
+            }
+            memo.put(key, outcomes);
+            return outcomes;
+        }
+    }
+}
@@ -1,16 +1,30 @@
 package agprojects.blackjack.services;
 
+import agprojects.blackjack.exceptions.ApiRequestException;
 import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.DealerOutcome;
 import agprojects.blackjack.models.Hand;
 import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.ShoeComposition;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.Table;
 import agprojects.blackjack.models.card.Card;
-import agprojects.blackjack.repositories.PlayerRepository;
+import agprojects.blackjack.models.dto.DealDTO;
+import agprojects.blackjack.models.dto.HandDTO;
+import agprojects.blackjack.models.dto.ShoeCompositionDTO;
+import agprojects.blackjack.services.base.DealerOddsService;
 import agprojects.blackjack.services.base.DealerService;
 import agprojects.blackjack.services.base.PlayerService;
+import agprojects.blackjack.services.base.RoundStateService;
+import agprojects.blackjack.services.base.SettlementService;
+import agprojects.blackjack.services.base.ShoeSupplier;
+import agprojects.blackjack.services.base.TableRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,46 +34,113 @@ import java.util.Map;
 @Service
 public class DealerServiceImpl implements DealerService {
 
+    private static final String[] RANK_NAMES = {"2", "3", "4", "5", "6", "7", "8", "9", "10", "A"};
+
+    public static final String DEALER_HAS_NO_UP_CARD = "Dealer has no up card yet";
+
+    public static final String ROUND_NOT_SETTLED = "The round at table with id: %s must be settled by the dealer before the next deal";
+
+    public static final String HANDS_NOT_FINISHED = "Players at table with id: %s must finish their hands before the dealer plays";
+
 
     @Autowired
-    Dealer dealer;
+    TableRegistry tableRegistry;
 
     @Autowired
     PlayerService playerService;
 
     @Autowired
-    PlayerRepository playerRepository;
+    RoundStateService roundStateService;
+
+    @Autowired
+    ShoeSupplier shoeSupplier;
+
+    @Autowired
+    DealerOddsService dealerOddsService;
+
+    @Autowired
+    SettlementService settlementService;
 
 
+    /**
+     * Starts a new round at a table - collects the settled hands and deals to every seated player in seat order.
+     * A round with hands that the dealer has not settled yet cannot be dealt over.
+     * The cards are dealt in memory and the players are updated once, in one batch, at the end. Like every
+     * command of a table the deal runs in one transaction.
+     * @param tableId Id of the table.
+     * @return copies of the hands of the round by seat number, made before the command ends.
+     */
     @Override
-    public Map<String, Hand> deal() {
-        List<Player> activePlayers = playerService.getAllPlayers();
-        Map<String,Hand> playerHands = new HashMap<>();
-        dealPlayers(activePlayers, playerHands);
+    public DealDTO deal(int tableId) {
+        return tableRegistry.execute(tableId, () -> {
+            Table table = tableRegistry.getTable(tableId);
+            Dealer dealer = table.getDealer();
+            if(dealer.getShoe().isCutCardReached()){
+                dealer.replaceShoe(shoeSupplier.nextShoe(tableId, table.getRngType()));
+            }
+            List<Player> activePlayers = new ArrayList<>(playerService.getPlayersAtTable(tableId));
+            for (Player player : activePlayers) {
+                if(player.getHands().stream().anyMatch(hand -> !hand.isSettled())){
+                    throw new ApiRequestException(String.format(ROUND_NOT_SETTLED,tableId));
+                }
+            }
+            activePlayers.sort(Comparator.comparingInt(Player::getSeatNumber));
+            collectFinishedHands(dealer, activePlayers);
+            boolean dealerDealt = dealer.getDealersHand().getCardsInHand().isEmpty();
+            dealPlayers(dealer, activePlayers);
+            activePlayers.forEach(roundStateService::addNewHands);
+            if(!activePlayers.isEmpty()){
+                roundStateService.updateAll(activePlayers);
+            }
 
+            DealDTO deal = new DealDTO();
+            if(dealerDealt){
+                deal.setDealersHand(new HandDTO(dealer.getDealersHand()));
+            }
+            for (Player player : activePlayers) {
+                deal.getHandsBySeat().put(player.getSeatNumber(), new HandDTO(player.getHands().get(0)));
+            }
+            return deal;
+        });
+    }
 
-        return playerHands;
+    /**
+     * Returns the cards of the previous round to the shoe - the dealer's hand
+     * and the hands of every player whose hands are all settled, so a stake is never thrown away.
+     * @param dealer the dealer of the table.
+     * @param activePlayers List of all active players in the current round.
+     */
+    private void collectFinishedHands(Dealer dealer, List<Player> activePlayers) {
+        if(!dealer.getDealersHand().getCardsInHand().isEmpty()){
+            dealer.collect(dealer.getDealersHand());
+            dealer.setDealersHand(new Hand());
+        }
+        for (Player player : activePlayers) {
+            if(!player.getHands().isEmpty() && player.getHands().stream().allMatch(Hand::isSettled)){
+                player.getHands().forEach(dealer::collect);
+                player.getHands().clear();
+            }
+        }
     }
 
     /**
      * Deals a card to the dealer if his hand is empty in dealing phase.
-     * @param playerHands List of all the player's hands in the current game round.
+     * @param dealer the dealer of the table.
      */
-    private void dealDealer(Map<String, Hand> playerHands) {
+    private void dealDealer(Dealer dealer) {
         if(dealer.getDealersHand().getCardsInHand().isEmpty()) {
             Card dealtCard = dealer.draw();
             dealer.getDealersHand().addCard(dealtCard);
-            playerHands.put("Dealer", dealer.getDealersHand());
             dealer.getDealersHand().evaluateHand();
         }
     }
 
     /**
      * Deals 2 cards to each player and one to the dealer in order.
-     * @param activePlayers List of all active players in the current round.
-     * @param playerHands List of all the player's hands in the current game round.
+     * @param dealer the dealer of the table.
+     * @param activePlayers List of all active players in the current round, in seat order.
      */
-    private void dealPlayers(List<Player> activePlayers, Map<String, Hand> playerHands) {
+    private void dealPlayers(Dealer dealer, List<Player> activePlayers) {
         for (int i = 0; i < 2; i++) {
             for (Player player : activePlayers) {
                 Card dealtCard = dealer.draw();
@@ -72,22 +153,33 @@ public class DealerServiceImpl implements DealerService {
                     player.getHands().get(0).addCard(dealtCard);
                 }
                 player.getHands().get(0).evaluateHand();
-                playerHands.put(player.getName(), player.getHands().get(0));
-                playerRepository.save(player);
             }
-            dealDealer(playerHands);
+            dealDealer(dealer);
         }
     }
 
+    /**
+     * Finishes the dealer's hand and settles the hands of all players at the table against it.
+     * The dealer only plays once every hand at the table is finished, so no hand is played knowing the dealer's total.
+     * The round ends here, so the changes of the round are written.
+     * @param tableId Id of the table.
+     * @return a copy of the finished dealer's hand.
+     */
     @Override
-    public Hand hitDealer() {
-            while(dealer.mustDraw()){
-                Card dealtCard = dealer.draw();
-                dealer.getDealersHand().addCard(dealtCard);
-                dealer.getDealersHand().evaluateHand();
+    public HandDTO hitDealer(int tableId) {
+        return tableRegistry.execute(tableId, () -> {
+            Dealer dealer = tableRegistry.getTable(tableId).getDealer();
+            List<Player> players = playerService.getPlayersAtTable(tableId);
+            for (Player player : players) {
+                if(player.getHands().stream().anyMatch(hand -> !hand.isFinished())){
+                    throw new ApiRequestException(String.format(HANDS_NOT_FINISHED,tableId));
+                }
             }
-
-        return dealer.getDealersHand();
+            Hand dealersHand = dealer.finishHand();
+            settlementService.settle(dealersHand, players);
+            roundStateService.endRound(tableId);
+            return new HandDTO(dealersHand);
+        });
     }
 
 
@@ -95,7 +187,72 @@ public class DealerServiceImpl implements DealerService {
      * Gets the number of cards left in the deck of cards.
      * @return number of cards left in the deck.
      */
-    public int getNumberOfCards() {
-        return dealer.getDeck().getNumberOfCards();
+    public int getNumberOfCards(int tableId) {
+        return tableRegistry.execute(tableId,
+                () -> tableRegistry.getTable(tableId).getDealer().getShoe().getNumberOfCards());
+    }
+
+    /**
+     * Gets the remaining cards per rank and the running and true count of the current shoe.
+     * @return composition of the current shoe.
+     */
+    public ShoeCompositionDTO getShoeComposition(int tableId) {
+        return tableRegistry.execute(tableId, () -> {
+            ShoeComposition composition = tableRegistry.getTable(tableId).getDealer().getShoe().getComposition();
+            Map<String, Integer> remainingByRank = new LinkedHashMap<>();
+            for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+                remainingByRank.put(RANK_NAMES[rankIndex], composition.getRemaining(rankIndex));
+            }
+
+            ShoeCompositionDTO compositionDTO = new ShoeCompositionDTO();
+            compositionDTO.setCardsRemaining(composition.getCardsRemaining());
+            compositionDTO.setRemainingByRank(remainingByRank);
+            compositionDTO.setRunningCount(composition.getRunningCount());
+            compositionDTO.setTrueCount(composition.getTrueCount());
+            return compositionDTO;
+        });
+    }
+
+    /**
+     * Gets the probability of every final result of the dealer's hand,
+     * based on the dealer's up card and the cards left in the shoe.
+     * @return probability per dealer outcome.
+     */
+    public Map<DealerOutcome, Double> getDealerOdds(int tableId) {
+        // Only the snapshot is taken on the table's mailbox, the odds are calculated outside of it.
+        OddsSnapshot snapshot = tableRegistry.execute(tableId, () -> {
+            Dealer dealer = tableRegistry.getTable(tableId).getDealer();
+            Hand dealersHand = dealer.getDealersHand();
+            if(dealersHand.getCardsInHand().isEmpty()){
+                throw new ApiRequestException(DEALER_HAS_NO_UP_CARD);
+            }
+            return new OddsSnapshot(dealersHand.getCardsInHand().get(0).getRank(),
+                    dealer.getShoe().getComposition().copyRemaining(), dealer.getSoft17Rule());
+        });
+        double[] outcomes = dealerOddsService.getDealerOutcomes(snapshot.upCardRank, snapshot.remaining, snapshot.soft17Rule);
+
+        Map<DealerOutcome, Double> dealerOdds = new LinkedHashMap<>();
+        for (DealerOutcome outcome : DealerOutcome.values()) {
+            dealerOdds.put(outcome, outcomes[outcome.ordinal()]);
+        }
+        return dealerOdds;
+    }
+
+    /**
+     * The part of a table's state the dealer odds are calculated from.
+     */
+    private static final class OddsSnapshot {
+
+        private final int upCardRank;
+
+        private final int[] remaining;
+
+        private final Soft17Rule soft17Rule;
+
+        private OddsSnapshot(int upCardRank, int[] remaining, Soft17Rule soft17Rule) {
+            this.upCardRank = upCardRank;
+            this.remaining = remaining;
+            this.soft17Rule = soft17Rule;
+        }
     }
 }
@@ -0,0 +1,150 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DealerOutcome;
+import agprojects.blackjack.models.HandState;
+import agprojects.blackjack.models.ShoeComposition;
+
+/**
+ * Expected value of every decision for every player hand state against one dealer up card and shoe composition.
+ * The whole table is filled once in the constructor - states are visited from the highest hard total down,
+ * so the value of every state a card can lead to is already known - and is read only afterwards.
+ * The cards the player draws are taken from the composition at the moment of the decision.
+ * Every state is valued twice - as the only hand of the player and as a hand after a split,
+ * where a two card 21 is not a BlackJack and is paid like any other 21.
+ */
+final class ExpectedValueTable {
+
+    private static final double BLACKJACK_PAYOUT = 1.5;
+
+    private static final double SURRENDER = -0.5;
+
+    private final double[] cardProbability = new double[ShoeComposition.RANK_COUNT];
+
+    /**
+     * Expected value of standing per player total, a player BlackJack is handled separately.
+     */
+    private final double[] standByTotal = new double[22];
+
+    private final double standOnBlackJack;
+
+    /**
+     * Indexed by {@link #row(int, boolean)} - the states of split hands follow the states of single hands.
+     */
+    private final double[] hit = new double[2 * HandState.STATE_COUNT];
+
+    /**
+     * Best of standing and hitting - used for the hands a card can lead to.
+     */
+    private final double[] best = new double[2 * HandState.STATE_COUNT];
+
+    /**
+     * @param dealerOutcomes probabilities of the dealer's final results indexed by {@link DealerOutcome} ordinal.
+     * @param remaining cards left in the shoe per rank index.
+     */
+    ExpectedValueTable(double[] dealerOutcomes, int[] remaining) {
+        int cardsRemaining = 0;
+        for (int count : remaining) {
+            cardsRemaining += count;
+        }
+        for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+            cardProbability[rankIndex] = remaining[rankIndex] / (double) cardsRemaining;
+        }
+
+        double dealerBust = dealerOutcomes[DealerOutcome.BUST.ordinal()];
+        double dealerBlackJack = dealerOutcomes[DealerOutcome.BLACKJACK.ordinal()];
+        for (int total = 0; total <= 21; total++) {
+            double ev = dealerBust - dealerBlackJack;
+            for (int dealerTotal = 17; dealerTotal <= 21; dealerTotal++) {
+                double probability = dealerOutcomes[dealerTotal - 17];
+                ev += total > dealerTotal ? probability : total < dealerTotal ? -probability : 0;
+            }
+            standByTotal[total] = ev;
+        }
+        standOnBlackJack = (1 - dealerBlackJack) * BLACKJACK_PAYOUT;
+
+        fill(false);
+        fill(true);
+    }
+
+    private void fill(boolean afterSplit) {
+        for (int hardTotal = 31; hardTotal >= 0; hardTotal--) {
+            for (int state = 0; state < HandState.STATE_COUNT; state++) {
+                if (HandState.hardTotal(state) != hardTotal) {
+                    continue;
+                }
+                int row = row(state, afterSplit);
+                if (HandState.isBust(state) || HandState.total(state) > 21) {
+                    hit[row] = -1;
+                    best[row] = -1;
+                    continue;
+                }
+                double ev = 0;
+                if (HandState.total(state) < 21) {
+                    for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+                        ev += cardProbability[rankIndex] * best[row(HandState.next(state, rankIndex + 2), afterSplit)];
+                    }
+                } else {
+                    ev = -1;
+                }
+                hit[row] = ev;
+                best[row] = Math.max(stand(state, afterSplit), ev);
+            }
+        }
+    }
+
+    private static int row(int handState, boolean afterSplit) {
+        return afterSplit ? HandState.STATE_COUNT + handState : handState;
+    }
+
+    /**
+     * @param afterSplit whether the hand is one of several hands of the player.
+     */
+    double stand(int handState, boolean afterSplit) {
+        if (HandState.isBust(handState)) {
+            return -1;
+        }
+        if (HandState.isBlackJack(handState) && !afterSplit) {
+            return standOnBlackJack;
+        }
+        return standByTotal[HandState.total(handState)];
+    }
+
+    double hit(int handState, boolean afterSplit) {
+        return hit[row(handState, afterSplit)];
+    }
+
+    /**
+     * One more card for twice the bet.
+     */
+    double doubleDown(int handState) {
+        double ev = 0;
+        for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+            int next = HandState.next(handState, rankIndex + 2);
+            ev += cardProbability[rankIndex] * (HandState.isBust(next) ? -1 : standByTotal[HandState.total(next)]);
+        }
+        return 2 * ev;
+    }
+
+    /**
+     * Two hands each starting with one of the paired cards. A two card 21 after a split is not a BlackJack
+     * and split Aces get only one card.
+     */
+    double split(int handState) {
+        int pairRank = HandState.pairRank(handState);
+        int splitHand = HandState.next(HandState.EMPTY, pairRank);
+        double ev = 0;
+        for (int rankIndex = 0; rankIndex < ShoeComposition.RANK_COUNT; rankIndex++) {
+            int next = HandState.next(splitHand, rankIndex + 2);
+            double handEv = standByTotal[HandState.total(next)];
+            if (pairRank != 11) {
+                handEv = Math.max(handEv, Math.max(hit(next, true), doubleDown(next)));
+            }
+            ev += cardProbability[rankIndex] * handEv;
+        }
+        return 2 * ev;
+    }
+
+    double surrender() {
+        return SURRENDER;
+    }
+}
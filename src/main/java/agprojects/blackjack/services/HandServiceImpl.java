@@ -5,6 +5,7 @@ import agprojects.blackjack.models.Dealer;
 import agprojects.blackjack.models.Hand;
 import agprojects.blackjack.models.Player;
 import agprojects.blackjack.services.base.HandService;
+import agprojects.blackjack.services.base.WalletService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -17,50 +18,77 @@ public class HandServiceImpl implements HandService {
 
     public static final String HAND_NOT_SPLITTABLE = "Hand with id: %s is not Splittable";
 
+    public static final String HAND_NOT_DOUBLEABLE = "Hand with id: %s can only be doubled on its first two cards";
+
     public static final String PLAYER_BALANCE_NOT_ENOUGH = "Player balance is not enough to double";
 
+    public static final String PLAYER_BALANCE_NOT_ENOUGH_TO_SPLIT = "Player balance is not enough to split";
+
     public static final String CANNOT_SURRENDER_AGAINST_ACE = "You cannot surrender hands when dealer's first card is an Ace";
 
+    public static final String HAND_NOT_SURRENDERABLE = "Hand with id: %s can only be surrendered on its first two cards and before a split";
 
     @Autowired
-    Dealer dealer;
+    WalletService walletService;
+
 
     @Override
-    public void hit(Player player, int handId) {
+    public void hit(Dealer dealer, Player player, int handId) {
         Hand hand = getHandByHandId(player,handId);
         hand.addCard(dealer.draw());
         hand.evaluateHand();
     }
+
+    /**
+     * Doubles the bet of a hand of two cards, the hand gets one more card and is finished.
+     */
     @Override
-    public void doubleDown(Player player, int handId) {
+    public long doubleDown(Dealer dealer, Player player, int handId) {
         Hand hand = getHandByHandId(player,handId);
-        if(player.getBalance() >= hand.getHandBet()) {
-            player.setBalance(player.getBalance() - hand.getHandBet());
-            player.setBet(player.getBet() + hand.getHandBet());
+        if(hand.getCardCount() != 2){
+            throw new ApiRequestException(String.format(HAND_NOT_DOUBLEABLE,handId));
+        }
+        long stake = hand.getHandBet();
+        if(walletService.tryReserve(player, stake)) {
+            player.setBet(player.getBet() + stake);
+            hand.setHandBet(stake * 2);
             hand.addCard(dealer.draw());
             hand.evaluateHand();
             hand.setFinished(true);
+            return stake;
         }else{
             throw new ApiRequestException(PLAYER_BALANCE_NOT_ENOUGH);
         }
     }
 
     @Override
-    public void split(Player player, int handId) {
+    public long split(Player player, int handId) {
         Hand hand = getHandByHandId(player,handId);
-        if(hand.isSplittable()){
+        if(!hand.isSplittable()){
+            throw new ApiRequestException(String.format(HAND_NOT_SPLITTABLE,handId));
+        }
+        long stake = hand.getHandBet();
+        if(walletService.tryReserve(player, stake)){
+            player.setBet(player.getBet() + stake);
             player.getHands().add(hand.split());
+            return stake;
         }else {
-            throw new ApiRequestException(String.format(HAND_NOT_SPLITTABLE,handId));
-
+            throw new ApiRequestException(PLAYER_BALANCE_NOT_ENOUGH_TO_SPLIT);
         }
     }
 
+    /**
+     * Gives up the hand - half of the hand's bet is returned when the round is settled.
+     * Only a hand of two cards that was not split can be surrendered, a doubled hand is already finished.
+     */
     @Override
-    public void surrender(Player player, int handId) {
+    public void surrender(Dealer dealer, Player player, int handId) {
         Hand hand = getHandByHandId(player,handId);
+        if(hand.getCardCount() != 2 || player.getHands().size() != 1){
+            throw new ApiRequestException(String.format(HAND_NOT_SURRENDERABLE,handId));
+        }
         if(dealer.getDealersHand().getCardsInHand().get(0).getRank()!=11){
-            player.setBalance(player.getBalance() + (player.getBet()/2));
+            hand.setSurrendered(true);
             hand.setFinished(true);
         }else{
             throw new ApiRequestException(CANNOT_SURRENDER_AGAINST_ACE);
@@ -0,0 +1,115 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.repositories.LedgerEntryRepository;
+import agprojects.blackjack.services.base.LedgerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Service that keeps the append-only ledger of all balance changes.
+ * Entries are queued when a change is made and written by a background flush in batches,
+ * every batch with one insert batch and one commit, so recording a change never waits for the database.
+ */
+@Service
+public class LedgerServiceImpl implements LedgerService {
+
+    @Autowired
+    LedgerEntryRepository ledgerEntryRepository;
+
+    @Value("${blackjack.ledger.batch-size:500}")
+    int batchSize = 500;
+
+    private final Queue<LedgerEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Queues an entry for a change of the player's balance that was already applied to the player.
+     * Inside a transaction the entry is only queued once the transaction commits,
+     * so a rolled back or retried change leaves no entry behind.
+     * @param player the player with the updated balance.
+     * @param type kind of the change.
+     * @param amount change of the balance in minor units, negative if money was taken.
+     */
+    @Override
+    public void record(Player player, LedgerEntryType type, long amount) {
+        if (amount == 0) {
+            return;
+        }
+        LedgerEntry entry = new LedgerEntry(player.getPlayerId(), type, amount, player.getBalance());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    pendingEntries.add(entry);
+                }
+            });
+        } else {
+            pendingEntries.add(entry);
+        }
+    }
+
+    /**
+     * Writes the queued entries in batches - a batch is saved and committed at once.
+     * @return number of written entries.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${blackjack.ledger.flush-interval-ms:100}")
+    public int flush() {
+        int written = 0;
+        List<LedgerEntry> batch = new ArrayList<>(batchSize);
+        LedgerEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            batch.add(entry);
+            if (batch.size() == batchSize) {
+                written += write(batch);
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += write(batch);
+        }
+        return written;
+    }
+
+    /**
+     * @param playerId Id of the player.
+     * @return all balance changes of the player, oldest first.
+     */
+    @Override
+    public List<LedgerEntry> getEntries(int playerId) {
+        flush();
+        return ledgerEntryRepository.findByPlayerIdOrderByEntryId(playerId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    /**
+     * Saves the batch and empties it, a batch that failed is queued again for the next flush.
+     */
+    private int write(List<LedgerEntry> batch) {
+        try {
+            ledgerEntryRepository.saveAll(batch);
+        } catch (RuntimeException e) {
+            pendingEntries.addAll(batch);
+            batch.clear();
+            throw e;
+        }
+        int written = batch.size();
+        batch.clear();
+        return written;
+    }
+}
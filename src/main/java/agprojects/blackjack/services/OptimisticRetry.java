@@ -0,0 +1,113 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.dto.RetryStatsDTO;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs a read-modify-write of versioned entities and runs it again when another request changed them first.
+ * Every attempt runs in its own transaction and reads the entities again, the attempts are spaced
+ * by an exponential backoff with jitter that is capped, so a hot player does not keep its requests busy forever.
+ */
+@Component
+public class OptimisticRetry {
+
+    public static final String CONCURRENT_UPDATE = "The player was changed by another request at the same time, try again";
+
+    /**
+     * Without a transaction manager (tests and benchmarks) the attempts run without a transaction.
+     */
+    @Autowired(required = false)
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Value("${blackjack.retry.max-attempts:5}")
+    int maxAttempts = 5;
+
+    @Value("${blackjack.retry.initial-backoff-ms:5}")
+    long initialBackoffMillis = 5;
+
+    @Value("${blackjack.retry.max-backoff-ms:100}")
+    long maxBackoffMillis = 100;
+
+    private final LongAdder conflicts = new LongAdder();
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+
+    /**
+     * @param operation reads the entities, changes them and saves them - it must not have any other side effects.
+     * @return the result of the first attempt that did not conflict.
+     * @throws OptimisticLockingFailureException if every attempt conflicted.
+     */
+    public <T> T execute(Supplier<T> operation) {
+        // Inside an outer transaction a retry would see the same stale entities, the conflict goes to the caller.
+        if (transactionTemplate == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return attempt(operation);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return attempt(() -> transactionTemplate.execute(status -> operation.get()));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+            }
+            retries.increment();
+            if (entityManager != null) {
+                entityManager.clear();
+            }
+            backOff(attempt);
+        }
+    }
+
+    /**
+     * Runs a single attempt without retrying, only counting the conflict.
+     */
+    private <T> T attempt(Supplier<T> operation) {
+        try {
+            return operation.get();
+        } catch (OptimisticLockingFailureException e) {
+            conflicts.increment();
+            throw e;
+        }
+    }
+
+    private void backOff(int attempt) {
+        long backoffMillis = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 20));
+        if (backoffMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @return how many updates conflicted, how many were retried and how many gave up.
+     */
+    public RetryStatsDTO getStats() {
+        RetryStatsDTO statsDTO = new RetryStatsDTO();
+        statsDTO.setConflicts(conflicts.sum());
+        statsDTO.setRetries(retries.sum());
+        statsDTO.setExhausted(exhausted.sum());
+        return statsDTO;
+    }
+}
@@ -1,16 +1,28 @@
 package agprojects.blackjack.services;
 
 import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.LedgerEntryType;
 import agprojects.blackjack.models.Player;
 import agprojects.blackjack.models.Table;
 import agprojects.blackjack.services.base.HandService;
-import agprojects.blackjack.utilities.CustomModelMapper;
+import agprojects.blackjack.services.base.LedgerService;
+import agprojects.blackjack.services.base.RoundStateService;
+import agprojects.blackjack.services.base.TableRegistry;
+import agprojects.blackjack.services.base.WalletService;
 import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.models.dto.RetryStatsDTO;
 import agprojects.blackjack.repositories.PlayerRepository;
 import agprojects.blackjack.services.base.PlayerService;
+import agprojects.blackjack.utilities.CustomModelMapper;
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,12 +39,24 @@ public class PlayerServiceImpl implements PlayerService {
     @Autowired
     HandService handService;
 
+
     @Autowired
-    CustomModelMapper modelMapper;
+    TableRegistry tableRegistry;
+
+    @Autowired
+    OptimisticRetry optimisticRetry;
 
+    @Autowired
+    LedgerService ledgerService;
+
+    @Autowired
+    WalletService walletService;
 
     @Autowired
-    Table table;
+    RoundStateService roundStateService;
+
+    @Autowired
+    CustomModelMapper modelMapper;
 
     public static final String PLAYER_NOT_FOUND = "Player with id: %s was not found";
 
@@ -40,28 +64,67 @@ public class PlayerServiceImpl implements PlayerService {
 
     public static final String NOT_ENOUGH_BALANCE = "Player balance is not enough for player with id: %s";
 
+    public static final String BET_NOT_POSITIVE = "Bet must be a positive amount: %s";
+
     public static final String CANNOT_ADD_NEGATIVE_BALANCE = "Negative balance cannot be added: %s";
 
+    public static final String PLAYER_NOT_AT_TABLE = "Player with id: %s is not seated at table with id: %s";
+
+    public static final String PLAYER_ALREADY_SEATED = "Player with id: %s is already seated at table with id: %s";
+
+    public static final String INVALID_PAGE_SIZE = "Page size must be between 1 and %s";
+
+    /**
+     * Largest page of players that can be read at once.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    public static final String PLAYER_IN_ROUND = "Player with id: %s cannot leave before all of their hands are settled";
+
+    public static final String BET_ALREADY_PLACED = "Player with id: %s already has a bet in play";
+
     /**
-     * Creates new player and save it into the database.
-     * @param playerDTO PlayerDTO object.
+     * Creates new player and save it into the database. Only the name is taken from the request, the player starts
+     * without a bet or hands and the opening balance is credited through the wallet and recorded in the ledger,
+     * so the ledger of every player adds up to their balance.
+     * @param playerDTO PlayerDTO object with the name and the opening balance.
      * @return The new player.
      */
     @Override
     public Player createNewPlayer(PlayerDTO playerDTO) {
-        Player player = modelMapper.convertFromPlayerDTO(playerDTO);
+        if(playerDTO.getBalance() < 0){
+            throw new ApiRequestException(String.format(CANNOT_ADD_NEGATIVE_BALANCE,playerDTO.getBalance()));
+        }
+        Player player = new Player();
+        player.setName(playerDTO.getName());
+        player.setHands(new ArrayList<>());
         playerRepository.save(player);
 
+        walletService.credit(player, playerDTO.getBalance());
+        ledgerService.record(player, LedgerEntryType.CREDIT, playerDTO.getBalance());
         return player;
     }
 
     /**
-     * Get player by player Id.
+     * Get player by player Id. A seated player is read from the state of the current round,
+     * which can be ahead of the database, and copied on the table's mailbox.
      * @param playerId Id of the player.
-     * @return Player object.
+     * @return copy of the player.
      */
-    public Player getPlayerById(int playerId){
-            return isPlayerPresent(playerId);
+    @Override
+    public PlayerDTO getPlayerById(int playerId){
+            Player player = isPlayerPresent(playerId);
+            if(player.getTableId() != 0){
+                int tableId = player.getTableId();
+                return tableRegistry.execute(tableId, () -> {
+                    Player seatedPlayer = roundStateService.getPlayer(tableId, playerId)
+                            .orElseThrow(() -> new ApiRequestException(String.format(PLAYER_NOT_FOUND,playerId)));
+                    walletService.getBalance(seatedPlayer);
+                    return modelMapper.convertFromPlayer(seatedPlayer);
+                });
+            }
+            walletService.getBalance(player);
+            return modelMapper.convertFromPlayer(player);
     }
 
     /**
@@ -70,109 +133,244 @@ public class PlayerServiceImpl implements PlayerService {
      */
     @Override
     public List<Player> getAllPlayers() {
-        return playerRepository.findAll();
+        List<Player> players = playerRepository.findAll();
+        players.forEach(walletService::getBalance);
+        return players;
     }
 
     /**
-     * Place a bet for a player by their playerId
+     * Gets a page of players ordered by id, with their hands. The page is found by its key, so reading a page
+     * costs the same however far into the players it is, and the hands of the whole page are loaded in one query.
+     * Players in a round that is not written yet are shown as they were last written.
+     * @param afterPlayerId Id of the last player of the previous page, 0 for the first page.
+     * @param limit Number of players in the page.
+     * @return List of Players, empty after the last page.
+     */
+    @Override
+    public List<Player> getPlayersPage(int afterPlayerId, int limit) {
+        if(limit < 1 || limit > MAX_PAGE_SIZE){
+            throw new ApiRequestException(String.format(INVALID_PAGE_SIZE,MAX_PAGE_SIZE));
+        }
+        List<Integer> playerIds = playerRepository.findPlayerIdsAfter(afterPlayerId, PageRequest.of(0, limit));
+        if(playerIds.isEmpty()){
+            return Collections.emptyList();
+        }
+        List<Player> players = playerRepository.findWithHandsByPlayerIdIn(playerIds);
+        players.forEach(walletService::getBalance);
+        return players;
+    }
+
+    /**
+     * Gets the players seated at a table from the state of the current round, runs on the table's mailbox.
+     * @param tableId Id of the table.
+     * @return List of Players.
+     */
+    @Override
+    public List<Player> getPlayersAtTable(int tableId) {
+        return roundStateService.getPlayersAtTable(tableId);
+    }
+
+    /**
+     * Place a bet for a player by their playerId. The bet is reserved in the player's wallet first.
+     * A player can only bet while no bet of theirs is in play - the reserved stake of a bet is only released
+     * when its hands are settled, so a second bet is rejected instead of replacing the first one.
+     * The bet of a seated player is placed on the table's mailbox like every other change of the round,
+     * saving the bet of a player without a table is retried if the player was changed by another request at the same time.
      * @param playerId Id of the betting player
-     * @param playerBet The amount that the player bets
-     * @return Updated player object
+     * @param playerBet The amount that the player bets in minor units (cents)
+     * @return copy of the updated player.
      */
     @Override
-    public Player placeBet(int playerId, double playerBet) {
+    public PlayerDTO placeBet(int playerId, long playerBet) {
+        if(playerBet <= 0){
+            throw new ApiRequestException(String.format(BET_NOT_POSITIVE,playerBet));
+        }
         Player player = isPlayerPresent(playerId);
-        if(playerBet>player.getBalance()){
-            throw new ApiRequestException(String.format(NOT_ENOUGH_BALANCE,playerId));
-        }else{
-            player.setBet(playerBet);
-            player.setBalance(player.getBalance() - playerBet);
-            playerRepository.save(player);
+        if(player.getTableId() != 0){
+            int tableId = player.getTableId();
+            return tableRegistry.execute(tableId, () -> {
+                // The command runs in a transaction, if it fails the wallet releases the reservation on rollback.
+                Player bettingPlayer = isPlayerAtTable(tableId, playerId);
+                reserveBet(bettingPlayer, playerBet);
+                bettingPlayer.setBet(playerBet);
+                roundStateService.update(bettingPlayer);
+                ledgerService.record(bettingPlayer, LedgerEntryType.BET, -playerBet);
+                return modelMapper.convertFromPlayer(bettingPlayer);
+            });
         }
-        return player;
+        return optimisticRetry.execute(() -> {
+            Player bettingPlayer = isPlayerPresent(playerId);
+            reserveBet(bettingPlayer, playerBet);
+            try {
+                bettingPlayer.setBet(playerBet);
+                playerRepository.save(bettingPlayer);
+            } catch (RuntimeException e) {
+                walletService.release(bettingPlayer, playerBet);
+                throw e;
+            }
+            ledgerService.record(bettingPlayer, LedgerEntryType.BET, -playerBet);
+            return modelMapper.convertFromPlayer(bettingPlayer);
+        });
     }
 
     /**
-     * Add balance to a player by their playerId
+     * Reserves the bet in the player's wallet, if the player has no other bet in play.
+     */
+    private void reserveBet(Player player, long playerBet) {
+        boolean betInPlay = player.getBet() != 0
+                || (player.getHands() != null && player.getHands().stream().anyMatch(hand -> !hand.isSettled()));
+        if(betInPlay){
+            throw new ApiRequestException(String.format(BET_ALREADY_PLACED,player.getPlayerId()));
+        }
+        if(!walletService.tryReserve(player, playerBet)){
+            throw new ApiRequestException(String.format(NOT_ENOUGH_BALANCE,player.getPlayerId()));
+        }
+    }
+
+    /**
+     * Add balance to a player by their playerId. Only the wallet changes, the balance is written in the background.
      * @param playerId  Id of the betting player
-     * @param playerBalanceToAdd The amount of balance the player inserted
+     * @param playerBalanceToAdd The amount of balance the player inserted in minor units (cents)
      * @return Updated player object
      */
     @Override
-    public Player addBalanceToPlayer(int playerId, int playerBalanceToAdd) {
+    public Player addBalanceToPlayer(int playerId, long playerBalanceToAdd) {
         Player player = isPlayerPresent(playerId);
         if(playerBalanceToAdd<0){
             throw new ApiRequestException(String.format(CANNOT_ADD_NEGATIVE_BALANCE,playerBalanceToAdd));
         }else {
-            player.setBalance(player.getBalance() + playerBalanceToAdd);
-            playerRepository.save(player);
+            walletService.credit(player, playerBalanceToAdd);
+            ledgerService.record(player, LedgerEntryType.CREDIT, playerBalanceToAdd);
         }
         return player;
     }
 
+    /**
+     * Gets every change of the player's balance, so the balance can be audited.
+     * @param playerId Id of the player.
+     * @return List of ledger entries, oldest first.
+     */
     @Override
-    public Player seatPlayer(int playerId, int playerSeat) {
-        Player player = isPlayerPresent(playerId);
-        table.sitPlayer(playerSeat,player);
-        playerRepository.save(player);
-        return player;
+    public List<LedgerEntry> getLedger(int playerId) {
+        isPlayerPresent(playerId);
+        return ledgerService.getEntries(playerId);
     }
 
+    /**
+     * @return counters of the wallet updates that conflicted with another request.
+     */
     @Override
-    public Player hit(int playerId, int handId) {
-        Player player = isPlayerPresent(playerId);
-
-        handService.hit(player,handId);
-        playerRepository.save(player);
-        return player;
+    public RetryStatsDTO getRetryStats() {
+        return optimisticRetry.getStats();
     }
 
+    /**
+     * Seats a player at a table. Like all actions at a table it runs on the table's mailbox,
+     * so two players can never take the same seat.
+     */
     @Override
-    public Player doubleDown(int playerId, int handId) {
-        Player player = isPlayerPresent(playerId);
-
-        handService.doubleDown(player,handId);
-        playerRepository.save(player);
-
-        return player;
-        }
+    public PlayerDTO seatPlayer(int tableId, int playerId, int playerSeat) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerPresent(playerId);
+            if(player.getTableId() != 0){
+                throw new ApiRequestException(String.format(PLAYER_ALREADY_SEATED,playerId,player.getTableId()));
+            }
+            Table table = tableRegistry.getTable(tableId);
+            table.sitPlayer(playerSeat,player);
+            roundStateService.write(tableId,player);
+            return modelMapper.convertFromPlayer(player);
+        });
+    }
 
+    /**
+     * Frees the seat of a player. A player can only leave once all of their hands are settled,
+     * the cards of the settled hands go back to the dealer.
+     * @param tableId Id of the table.
+     * @param playerId Id of the player.
+     * @return copy of the updated player.
+     */
     @Override
-    public Player stand(int playerId, int handId) {
-        Player player = isPlayerPresent(playerId);
-
-        handService.stand(player,handId);
-        playerRepository.save(player);
+    public PlayerDTO leaveTable(int tableId, int playerId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+            if(!player.getHands().stream().allMatch(Hand::isSettled)){
+                throw new ApiRequestException(String.format(PLAYER_IN_ROUND,playerId));
+            }
+            Table table = tableRegistry.getTable(tableId);
+            player.getHands().forEach(table.getDealer()::collect);
+            player.getHands().clear();
+            table.standUp(player.getSeatNumber(),player);
+            roundStateService.write(tableId,player);
+            return modelMapper.convertFromPlayer(player);
+        });
+    }
 
-        return player;
+    @Override
+    public PlayerDTO hit(int tableId, int playerId, int handId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+
+            handService.hit(tableRegistry.getTable(tableId).getDealer(),player,handId);
+            roundStateService.update(player);
+            return modelMapper.convertFromPlayer(player);
+        });
     }
 
     @Override
-    public Player split(int playerId, int handId) {
-        Player player = isPlayerPresent(playerId);
-        handService.split(player,handId);
-        playerRepository.save(player);
+    public PlayerDTO doubleDown(int tableId, int playerId, int handId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+
+            long stake = handService.doubleDown(tableRegistry.getTable(tableId).getDealer(),player,handId);
+            roundStateService.update(player);
+            ledgerService.record(player, LedgerEntryType.BET, -stake);
+            return modelMapper.convertFromPlayer(player);
+        });
+    }
 
-        return player;
+    @Override
+    public PlayerDTO stand(int tableId, int playerId, int handId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+
+            handService.stand(player,handId);
+            roundStateService.update(player);
+            return modelMapper.convertFromPlayer(player);
+        });
     }
 
     @Override
-    public Player surrender(int playerId, int handId) {
-        Player player = isPlayerPresent(playerId);
-        handService.surrender(player,handId);
-        playerRepository.save(player);
+    public PlayerDTO split(int tableId, int playerId, int handId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+            long stake = handService.split(player,handId);
+            roundStateService.addNewHands(player);
+            roundStateService.update(player);
+            ledgerService.record(player, LedgerEntryType.BET, -stake);
+            return modelMapper.convertFromPlayer(player);
+        });
+    }
 
-        return player;
+    @Override
+    public PlayerDTO surrender(int tableId, int playerId, int handId) {
+        return tableRegistry.execute(tableId, () -> {
+            Player player = isPlayerAtTable(tableId, playerId);
+            handService.surrender(tableRegistry.getTable(tableId).getDealer(),player,handId);
+            roundStateService.update(player);
+            return modelMapper.convertFromPlayer(player);
+        });
     }
 
     /**
      * Checks if the player is present in the database, if not it throws an exception.
+     * The hands are loaded right away, a player loaded on a table's mailbox is returned after its transaction ended.
      * @param playerId Id of the player.
      * @return The player object found by playerId.
      */
     private Player isPlayerPresent(int playerId) {
         Optional<Player> playerToBet = playerRepository.findById(playerId);
         if(playerToBet.isPresent()){
+            Hibernate.initialize(playerToBet.get().getHands());
             return playerToBet.get();
         }else{
             throw new ApiRequestException(String.format(PLAYER_NOT_FOUND,playerId));
@@ -180,13 +378,28 @@ public class PlayerServiceImpl implements PlayerService {
 
     }
 
-    public Player executeAction(String action, int playerId, int handId){
+    /**
+     * Checks if the player is seated at the given table, if not it throws an exception.
+     * @param tableId Id of the table.
+     * @param playerId Id of the player.
+     * @return The player object from the state of the current round.
+     */
+    private Player isPlayerAtTable(int tableId, int playerId) {
+        Player player = roundStateService.getPlayer(tableId, playerId)
+                .orElseThrow(() -> new ApiRequestException(String.format(PLAYER_NOT_FOUND,playerId)));
+        if(player.getTableId() != tableId){
+            throw new ApiRequestException(String.format(PLAYER_NOT_AT_TABLE,playerId,tableId));
+        }
+        return player;
+    }
+
+    public PlayerDTO executeAction(String action, int tableId, int playerId, int handId){
         switch (action){
-            case "hit" : return hit(playerId,handId);
-            case "double" : return doubleDown(playerId,handId);
-            case "split" : return split(playerId,handId);
-            case "stand" : return stand(playerId,handId);
-            case "surrender" : return surrender(playerId,handId);
+            case "hit" : return hit(tableId,playerId,handId);
+            case "double" : return doubleDown(tableId,playerId,handId);
+            case "split" : return split(tableId,playerId,handId);
+            case "stand" : return stand(tableId,playerId,handId);
+            case "surrender" : return surrender(tableId,playerId,handId);
             default: throw new ApiRequestException(String.format(ACTION_NOT_ALLOWED,action));
         }
     }
@@ -0,0 +1,250 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DurabilityMode;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.repositories.HandRepository;
+import agprojects.blackjack.repositories.PlayerRepository;
+import agprojects.blackjack.services.base.RoundStateService;
+import agprojects.blackjack.services.base.TableRegistry;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that keeps the live state of every round.
+ * With {@link DurabilityMode#PER_ACTION} every change is saved right away. With {@link DurabilityMode#PER_ROUND}
+ * the players of a table stay in memory while they play and an action only marks its player as changed -
+ * the changed players and their hands are saved together when the round is settled and at regular checkpoints.
+ * Seating and leaving a table are always written right away, so the table of a player in the database is never stale.
+ */
+@Service
+public class RoundStateServiceImpl implements RoundStateService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RoundStateServiceImpl.class);
+
+    @Autowired
+    PlayerRepository playerRepository;
+
+    @Autowired
+    HandRepository handRepository;
+
+    @Autowired
+    TableRegistry tableRegistry;
+
+    @Value("${blackjack.durability.mode:PER_ACTION}")
+    DurabilityMode durabilityMode = DurabilityMode.PER_ACTION;
+
+    /**
+     * Players kept per table, only read and changed on the table's mailbox.
+     */
+    private final Map<Integer, TableState> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Tables with changes that were not written yet.
+     */
+    private final Set<Integer> changedTables = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The hands of the player are always loaded - the player outlives the table command's transaction.
+     * @return the player in the state of the current round, it is only kept if the player is seated at the table.
+     */
+    @Override
+    public Optional<Player> getPlayer(int tableId, int playerId) {
+        if (durabilityMode == DurabilityMode.PER_ACTION) {
+            Optional<Player> player = playerRepository.findById(playerId);
+            player.ifPresent(loaded -> Hibernate.initialize(loaded.getHands()));
+            return player;
+        }
+        TableState state = getTableState(tableId);
+        Player player = state.players.get(playerId);
+        if (player != null) {
+            return Optional.of(player);
+        }
+        Optional<Player> loadedPlayer = playerRepository.findById(playerId);
+        loadedPlayer.filter(loaded -> loaded.getTableId() == tableId).ifPresent(loaded -> keep(state, loaded));
+        return loadedPlayer;
+    }
+
+    /**
+     * @return the players seated at the table, loaded from the database the first time the table is played.
+     */
+    @Override
+    public List<Player> getPlayersAtTable(int tableId) {
+        if (durabilityMode == DurabilityMode.PER_ACTION) {
+            return playerRepository.findByTableId(tableId);
+        }
+        TableState state = getTableState(tableId);
+        if (!state.loaded) {
+            for (Player player : playerRepository.findByTableId(tableId)) {
+                if (!state.players.containsKey(player.getPlayerId())) {
+                    keep(state, player);
+                }
+            }
+            state.loaded = true;
+        }
+        return new ArrayList<>(state.players.values());
+    }
+
+    /**
+     * Saves the player or marks it as changed, depending on the durability mode.
+     * @param player a seated player changed by an action.
+     */
+    @Override
+    public void update(Player player) {
+        if (durabilityMode == DurabilityMode.PER_ACTION) {
+            playerRepository.save(player);
+            return;
+        }
+        TableState state = getTableState(player.getTableId());
+        state.players.putIfAbsent(player.getPlayerId(), player);
+        state.changed.add(player.getPlayerId());
+        changedTables.add(player.getTableId());
+    }
+
+    /**
+     * Saves the players in one batch or marks them as changed, depending on the durability mode.
+     */
+    @Override
+    public void updateAll(Collection<Player> players) {
+        if (durabilityMode == DurabilityMode.PER_ACTION) {
+            playerRepository.saveAll(players);
+            return;
+        }
+        players.forEach(this::update);
+    }
+
+    /**
+     * Saves the player right away in every durability mode, used when a player sits down or leaves.
+     * @param tableId Id of the table the player sits down at or leaves.
+     */
+    @Override
+    public void write(int tableId, Player player) {
+        Player savedPlayer = playerRepository.save(player);
+        if (durabilityMode == DurabilityMode.PER_ACTION) {
+            return;
+        }
+        TableState state = getTableState(tableId);
+        state.changed.remove(player.getPlayerId());
+        if (player.getTableId() == tableId) {
+            keep(state, savedPlayer != null ? savedPlayer : player);
+        } else {
+            state.players.remove(player.getPlayerId());
+            if (state.players.isEmpty() && state.changed.isEmpty()) {
+                tables.remove(tableId);
+                changedTables.remove(tableId);
+            }
+        }
+    }
+
+    /**
+     * Saves the hands of the player that have no id yet, in every durability mode, so a hand that was just
+     * dealt or split can be played by its id right away and keeps that id. The inserts go out with the
+     * transaction of the table command.
+     */
+    @Override
+    public void addNewHands(Player player) {
+        if (player.getHands() == null) {
+            return;
+        }
+        for (Hand hand : player.getHands()) {
+            if (hand.getHandId() == 0) {
+                handRepository.save(hand);
+            }
+        }
+    }
+
+    /**
+     * Writes the players of the table that changed during the round in one batch.
+     * @return number of written players.
+     */
+    @Override
+    public int endRound(int tableId) {
+        TableState state = tables.get(tableId);
+        if (state == null || state.changed.isEmpty()) {
+            return 0;
+        }
+        List<Player> changedPlayers = new ArrayList<>(state.changed.size());
+        for (Integer playerId : state.changed) {
+            changedPlayers.add(state.players.get(playerId));
+        }
+        // The saved copies carry the new versions and ids of new hands, they replace the kept players.
+        for (Player savedPlayer : playerRepository.saveAll(changedPlayers)) {
+            keep(state, savedPlayer);
+        }
+        state.changed.clear();
+        changedTables.remove(tableId);
+        return changedPlayers.size();
+    }
+
+    /**
+     * Writes the changes of every table with a round that is still being played, each on its table's mailbox.
+     * A table that could not be written is logged and tried again at the next checkpoint, the other tables
+     * are still written.
+     * @return number of written players.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${blackjack.durability.checkpoint-interval-ms:1000}")
+    public int checkpoint() {
+        int written = 0;
+        List<Integer> failedTables = new ArrayList<>();
+        Iterator<Integer> tableIds = changedTables.iterator();
+        while (tableIds.hasNext()) {
+            Integer tableId = tableIds.next();
+            tableIds.remove();
+            try {
+                written += tableRegistry.execute(tableId, () -> endRound(tableId));
+            } catch (RuntimeException e) {
+                failedTables.add(tableId);
+                LOGGER.warn("Checkpoint of table {} failed, it is tried again at the next checkpoint", tableId, e);
+            }
+        }
+        changedTables.addAll(failedTables);
+        return written;
+    }
+
+    @PreDestroy
+    public void stop() {
+        checkpoint();
+    }
+
+    private TableState getTableState(int tableId) {
+        return tables.computeIfAbsent(tableId, id -> new TableState());
+    }
+
+    /**
+     * Keeps the player with its hands loaded, so the hands can still be read after the transaction that loaded them.
+     */
+    private static void keep(TableState state, Player player) {
+        Hibernate.initialize(player.getHands());
+        state.players.put(player.getPlayerId(), player);
+    }
+
+    /**
+     * The players of one table and which of them changed since they were last written.
+     */
+    private static final class TableState {
+
+        private final Map<Integer, Player> players = new LinkedHashMap<>();
+
+        private final Set<Integer> changed = new HashSet<>();
+
+        private boolean loaded;
+    }
+}
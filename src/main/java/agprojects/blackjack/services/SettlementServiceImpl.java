@@ -0,0 +1,114 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.services.base.LedgerService;
+import agprojects.blackjack.services.base.RoundStateService;
+import agprojects.blackjack.services.base.SettlementService;
+import agprojects.blackjack.services.base.WalletService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service that pays out the finished hands of a round once the dealer has finished his hand.
+ * Bets are reserved in the player's wallet when they are placed, so a payout is the amount returned to the balance -
+ * the bet and the winnings.
+ */
+@Service
+public class SettlementServiceImpl implements SettlementService {
+
+    /**
+     * Payouts are counted in halves of the bet, so they stay exact in minor units - a BlackJack returns
+     * the bet with 3:2 winnings, five halves.
+     */
+    static final int BLACKJACK_PAYOUT_HALVES = 5;
+
+    static final int WIN_PAYOUT_HALVES = 4;
+
+    static final int PUSH_PAYOUT_HALVES = 2;
+
+    static final int SURRENDER_PAYOUT_HALVES = 1;
+
+    @Autowired
+    RoundStateService roundStateService;
+
+    @Autowired
+    LedgerService ledgerService;
+
+    @Autowired
+    WalletService walletService;
+
+    /**
+     * Compares every finished, not yet settled hand with the dealer's hand in one pass, credits the balances
+     * and updates all changed players in one batch.
+     * @param dealersHand the finished dealer's hand.
+     * @param players players at the table.
+     * @return the players whose hands were settled.
+     */
+    @Override
+    @Transactional
+    public List<Player> settle(Hand dealersHand, List<Player> players) {
+        List<Player> settledPlayers = new ArrayList<>();
+        for (Player player : players) {
+            List<Hand> hands = player.getHands();
+            if (hands == null || hands.isEmpty()) {
+                continue;
+            }
+            boolean singleHand = hands.size() == 1;
+            long stake = 0;
+            long payout = 0;
+            boolean settled = false;
+            for (Hand hand : hands) {
+                if (!hand.isFinished() || hand.isSettled()) {
+                    continue;
+                }
+                // An odd cent of a 3:2 or surrender payout is rounded down in favour of the house.
+                stake += hand.getHandBet();
+                payout += hand.getHandBet() * payoutInHalves(hand, singleHand, dealersHand) / 2;
+                hand.setSettled(true);
+                settled = true;
+            }
+            if (settled) {
+                walletService.settle(player, stake, payout);
+                ledgerService.record(player, LedgerEntryType.PAYOUT, payout);
+                if (hands.stream().allMatch(Hand::isSettled)) {
+                    player.setBet(0);
+                }
+                settledPlayers.add(player);
+            }
+        }
+        if (!settledPlayers.isEmpty()) {
+            roundStateService.updateAll(settledPlayers);
+        }
+        return settledPlayers;
+    }
+
+    /**
+     * @param singleHand true if the player did not split - only then a two card 21 is a BlackJack.
+     * @return the number of halves of the hand's bet that are returned to the player.
+     */
+    static int payoutInHalves(Hand hand, boolean singleHand, Hand dealersHand) {
+        if (hand.isSurrendered()) {
+            return SURRENDER_PAYOUT_HALVES;
+        }
+        if (hand.isBust()) {
+            return 0;
+        }
+        boolean playerBlackJack = singleHand && hand.isBlackJack();
+        if (dealersHand.isBlackJack()) {
+            return playerBlackJack ? PUSH_PAYOUT_HALVES : 0;
+        }
+        if (playerBlackJack) {
+            return BLACKJACK_PAYOUT_HALVES;
+        }
+        if (dealersHand.isBust() || hand.getTotal() > dealersHand.getTotal()) {
+            return WIN_PAYOUT_HALVES;
+        }
+        return hand.getTotal() == dealersHand.getTotal() ? PUSH_PAYOUT_HALVES : 0;
+    }
+}
@@ -0,0 +1,162 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.ContinuousShuffler;
+import agprojects.blackjack.models.Deck;
+import agprojects.blackjack.models.dto.ShoePoolStatsDTO;
+import agprojects.blackjack.models.Shoe;
+import agprojects.blackjack.models.rng.RngType;
+import agprojects.blackjack.services.base.ShoeSupplier;
+import agprojects.blackjack.services.base.ShuffleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps a small pool of shoes per kind of random generator that are shuffled in the background,
+ * so a table that reaches the cut card swaps in a new shoe without waiting for a shuffle.
+ */
+@Service
+public class ShoeSupplierImpl implements ShoeSupplier {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ShoeSupplierImpl.class);
+
+    @Autowired
+    ShuffleService shuffleService;
+
+    @Value("${blackjack.shoe.pool-size:2}")
+    int poolSize = 2;
+
+    @Value("${blackjack.shoe.decks:6}")
+    int numberOfDecks = Deck.DEFAULT_NUMBER_OF_DECKS;
+
+    @Value("${blackjack.shoe.penetration:0.75}")
+    double penetration = Deck.DEFAULT_PENETRATION;
+
+    /**
+     * Shuffled shoes per kind of generator, every table takes its shoes from the pool of its own generator.
+     */
+    private final Map<RngType, BlockingQueue<Deck>> readyShoes = new EnumMap<>(RngType.class);
+
+    private ExecutorService shuffler;
+
+    private final LongAdder shufflesCompleted = new LongAdder();
+
+    private final LongAdder poolMisses = new LongAdder();
+
+    private final AtomicLong totalShuffleNanos = new AtomicLong();
+
+    private final AtomicLong maxShuffleNanos = new AtomicLong();
+
+    /**
+     * Starts the background shuffler and fills the pool.
+     */
+    @PostConstruct
+    public void start() {
+        for (RngType rngType : RngType.values()) {
+            readyShoes.put(rngType, new ArrayBlockingQueue<>(poolSize));
+        }
+        shuffler = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "shoe-shuffler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (RngType rngType : RngType.values()) {
+            for (int i = 0; i < poolSize; i++) {
+                shuffler.execute(() -> refill(rngType));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        shuffler.shutdownNow();
+    }
+
+    /**
+     * Takes a ready shoe from the pool of the generator and schedules a replacement.
+     * Only if the pool is empty the shoe is shuffled on the calling thread.
+     * @param tableId id of the table the shoe is dealt at, recorded with the seed of the shoe.
+     * @param rngType kind of generator the table shuffles with.
+     * @return a freshly shuffled shoe.
+     */
+    @Override
+    public Deck nextShoe(int tableId, RngType rngType) {
+        Deck shoe = readyShoes.get(rngType).poll();
+        if (shoe == null) {
+            poolMisses.increment();
+            shoe = shuffleShoe(rngType);
+        }
+        shuffler.execute(() -> refill(rngType));
+        recordSeed(tableId, rngType, shoe);
+        return shoe;
+    }
+
+    /**
+     * A continuous shuffler is never shuffled as a whole, so it does not come from the pool.
+     * @param tableId id of the table the shoe is dealt at, recorded with the seed of the shoe.
+     * @param rngType kind of generator the table shuffles with.
+     * @return a new continuous shuffler drawing from a stream of the given generator.
+     */
+    @Override
+    public ContinuousShuffler newContinuousShuffler(int tableId, RngType rngType) {
+        ContinuousShuffler shoe = new ContinuousShuffler(numberOfDecks, shuffleService.newStream(rngType));
+        recordSeed(tableId, rngType, shoe);
+        return shoe;
+    }
+
+    @Override
+    public ShoePoolStatsDTO getStats() {
+        ShoePoolStatsDTO stats = new ShoePoolStatsDTO();
+        long shuffles = shufflesCompleted.sum();
+        int poolDepth = 0;
+        for (BlockingQueue<Deck> shoes : readyShoes.values()) {
+            poolDepth += shoes.size();
+        }
+        stats.setPoolDepth(poolDepth);
+        stats.setPoolCapacity(poolSize * readyShoes.size());
+        stats.setShufflesCompleted(shuffles);
+        stats.setPoolMisses(poolMisses.sum());
+        stats.setAverageShuffleNanos(shuffles == 0 ? 0 : totalShuffleNanos.get() / shuffles);
+        stats.setMaxShuffleNanos(maxShuffleNanos.get());
+        return stats;
+    }
+
+    /**
+     * Writes the seed of every shoe that goes into play to the server log, so a disputed round
+     * can be replayed later. The seed is never part of an API response.
+     */
+    private void recordSeed(int tableId, RngType rngType, Shoe shoe) {
+        LOGGER.info("Table {} put a new shoe in play, rngType={} seed={}", tableId, rngType, shoe.getSeed());
+    }
+
+    private void refill(RngType rngType) {
+        BlockingQueue<Deck> shoes = readyShoes.get(rngType);
+        if (shoes.remainingCapacity() > 0) {
+            shoes.offer(shuffleShoe(rngType));
+        }
+    }
+
+    private Deck shuffleShoe(RngType rngType) {
+        long start = System.nanoTime();
+        Deck shoe = new Deck(numberOfDecks, penetration, shuffleService.newStream(rngType));
+        long shuffleNanos = System.nanoTime() - start;
+
+        shufflesCompleted.increment();
+        totalShuffleNanos.addAndGet(shuffleNanos);
+        maxShuffleNanos.accumulateAndGet(shuffleNanos, Math::max);
+        return shoe;
+    }
+}
@@ -0,0 +1,49 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.rng.RandomStream;
+import agprojects.blackjack.models.rng.RngType;
+import agprojects.blackjack.services.base.ShuffleService;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+/**
+ * Creates a new seeded random stream for every shoe.
+ * Only the seed is drawn from a shared generator, the stream itself belongs to a single shoe.
+ */
+@Service
+public class ShuffleServiceImpl implements ShuffleService {
+
+    private final SplittableRandom fastSeeds = new SplittableRandom(new SecureRandom().nextLong());
+
+    private final SecureRandom secureSeeds = new SecureRandom();
+
+    /**
+     * @param rngType kind of generator.
+     * @return new stream with a freshly drawn seed.
+     */
+    @Override
+    public RandomStream newStream(RngType rngType) {
+        return rngType.create(nextSeed(rngType));
+    }
+
+    /**
+     * @param rngType kind of generator the shoe was shuffled with.
+     * @param seed recorded seed of the shoe.
+     * @return stream that produces exactly the same shuffle again.
+     */
+    @Override
+    public RandomStream replay(RngType rngType, long seed) {
+        return rngType.create(seed);
+    }
+
+    private long nextSeed(RngType rngType) {
+        if (rngType == RngType.SECURE) {
+            return secureSeeds.nextLong();
+        }
+        synchronized (fastSeeds) {
+            return fastSeeds.nextLong();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.dto.SimulationDTO;
+import agprojects.blackjack.models.dto.SimulationRequestDTO;
+import agprojects.blackjack.services.base.SimulationService;
+import agprojects.blackjack.simulation.RoundSimulator;
+import agprojects.blackjack.simulation.SimulationJob;
+import agprojects.blackjack.simulation.SimulationRules;
+import agprojects.blackjack.simulation.SimulationStatus;
+import agprojects.blackjack.simulation.SimulationTally;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs Monte Carlo simulations of the game as background jobs on a dedicated fork/join pool,
+ * so long simulations do not take threads from the tables.
+ * The rounds themselves are played without Spring beans or the database.
+ */
+@Service
+public class SimulationServiceImpl implements SimulationService {
+
+    public static final String SIMULATION_NOT_FOUND = "Simulation with id %d not found";
+
+    public static final String INVALID_ROUNDS = "Number of rounds must be between 1 and %d";
+
+    public static final String INVALID_DECKS = "Number of decks must be between 1 and 8";
+
+    public static final String INVALID_PENETRATION = "Penetration must be above 0 and at most 1";
+
+    public static final String INVALID_PAYOUT = "BlackJack payout must be positive";
+
+    public static final String INVALID_MAX_HANDS = "Maximum number of hands must be between 1 and %d";
+
+    public static final String TOO_MANY_SIMULATIONS = "%d simulations are already running, try again when one is finished";
+
+    /**
+     * Number of worker threads, 0 uses one per core.
+     */
+    @Value("${blackjack.simulation.parallelism:0}")
+    int parallelism = 0;
+
+    @Value("${blackjack.simulation.max-rounds:1000000000}")
+    long maxRounds = 1_000_000_000L;
+
+    /**
+     * Finished jobs are kept this long for their results to be read.
+     */
+    @Value("${blackjack.simulation.retention-ms:3600000}")
+    long retentionMillis = 3_600_000L;
+
+    /**
+     * Most jobs kept at once - the oldest finished job makes room for a new one.
+     */
+    @Value("${blackjack.simulation.max-jobs:100}")
+    int maxJobs = 100;
+
+    private final Map<Integer, SimulationJob> jobs = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Validates the rules and starts the simulation in the background.
+     * @param request rules, number of rounds and an optional seed to reproduce an earlier run.
+     * @return the started job.
+     */
+    @Override
+    public SimulationDTO startSimulation(SimulationRequestDTO request) {
+        if (request.getRounds() < 1 || request.getRounds() > maxRounds) {
+            throw new ApiRequestException(String.format(INVALID_ROUNDS, maxRounds));
+        }
+        if (request.getNumberOfDecks() < 1 || request.getNumberOfDecks() > 8) {
+            throw new ApiRequestException(INVALID_DECKS);
+        }
+        if (request.getPenetration() <= 0 || request.getPenetration() > 1) {
+            throw new ApiRequestException(INVALID_PENETRATION);
+        }
+        if (request.getBlackJackPayout() <= 0) {
+            throw new ApiRequestException(INVALID_PAYOUT);
+        }
+        if (request.getMaxHands() < 1 || request.getMaxHands() > RoundSimulator.MAX_HANDS) {
+            throw new ApiRequestException(String.format(INVALID_MAX_HANDS, RoundSimulator.MAX_HANDS));
+        }
+
+        SimulationRules rules = new SimulationRules(request.getNumberOfDecks(), request.getPenetration(),
+                request.getSoft17Rule(), request.getBlackJackPayout(), request.isDoubleAfterSplit(),
+                request.isSurrenderAllowed(), request.getMaxHands(), request.getRngType());
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        SimulationJob job = new SimulationJob(nextId.getAndIncrement(), rules, request.getRounds(), seed);
+        synchronized (jobs) {
+            evictFinishedJobs();
+            if (jobs.size() >= maxJobs) {
+                jobs.values().stream()
+                        .filter(finishedJob -> finishedJob.getStatus() != SimulationStatus.RUNNING)
+                        .min(Comparator.comparingLong(SimulationJob::getFinishedAt))
+                        .ifPresent(finishedJob -> jobs.remove(finishedJob.getId()));
+            }
+            if (jobs.size() >= maxJobs) {
+                throw new ApiRequestException(String.format(TOO_MANY_SIMULATIONS, maxJobs));
+            }
+            jobs.put(job.getId(), job);
+        }
+        pool.execute(job::run);
+        return toDTO(job);
+    }
+
+    @Override
+    public SimulationDTO getSimulation(int simulationId) {
+        evictFinishedJobs();
+        SimulationJob job = jobs.get(simulationId);
+        if (job == null) {
+            throw new ApiRequestException(String.format(SIMULATION_NOT_FOUND, simulationId));
+        }
+        return toDTO(job);
+    }
+
+    private void evictFinishedJobs() {
+        long now = System.currentTimeMillis();
+        jobs.values().removeIf(job -> job.getStatus() != SimulationStatus.RUNNING
+                && now - job.getFinishedAt() >= retentionMillis);
+    }
+
+    private SimulationDTO toDTO(SimulationJob job) {
+        SimulationDTO simulationDTO = new SimulationDTO();
+        long roundsCompleted = job.getRoundsCompleted();
+        simulationDTO.setId(job.getId());
+        simulationDTO.setStatus(job.getStatus());
+        simulationDTO.setSeed(job.getSeed());
+        simulationDTO.setRounds(job.getRounds());
+        simulationDTO.setRoundsCompleted(roundsCompleted);
+        simulationDTO.setProgress(roundsCompleted / (double) job.getRounds());
+        simulationDTO.setElapsedMillis(job.getElapsedMillis());
+        simulationDTO.setError(job.getError());
+
+        SimulationTally result = job.getResult();
+        if (result != null) {
+            simulationDTO.setHouseEdge(result.getHouseEdge());
+            simulationDTO.setStandardError(result.getStandardError());
+            simulationDTO.setVariance(result.getVariance());
+            simulationDTO.setPlayerBlackJackFrequency(result.getPlayerBlackJackFrequency());
+            simulationDTO.setDealerBlackJackFrequency(result.getDealerBlackJackFrequency());
+            simulationDTO.setPlayerBustFrequency(result.getPlayerBustFrequency());
+            simulationDTO.setDealerBustFrequency(result.getDealerBustFrequency());
+            simulationDTO.setDoubleFrequency(result.getDoubleFrequency());
+            simulationDTO.setSplitFrequency(result.getSplitFrequency());
+            simulationDTO.setSurrenderFrequency(result.getSurrenderFrequency());
+        }
+        return simulationDTO;
+    }
+}
@@ -0,0 +1,202 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.BasicStrategy;
+import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.PlayerAction;
+import agprojects.blackjack.models.dto.HandDTO;
+import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.models.dto.StrategyDTO;
+import agprojects.blackjack.services.base.DealerOddsService;
+import agprojects.blackjack.services.base.PlayerService;
+import agprojects.blackjack.services.base.StrategyService;
+import agprojects.blackjack.services.base.TableRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service that recommends a decision for a player's hand based on the dealer's up card and the cards left in the shoe.
+ * Expected values are calculated once per up card, composition and soft 17 rule and shared by all requests
+ * in the same situation. If the calculation does not finish within the latency budget,
+ * the basic strategy chart answers instead while the calculation completes in the background.
+ */
+@Service
+public class StrategyServiceImpl implements StrategyService {
+
+    @Autowired
+    TableRegistry tableRegistry;
+
+    @Autowired
+    PlayerService playerService;
+
+    @Autowired
+    DealerOddsService dealerOddsService;
+
+    @Value("${blackjack.strategy.budget-ms:25}")
+    long budgetMillis = 25;
+
+    @Value("${blackjack.strategy.cache-size:1024}")
+    int cacheSize = 1024;
+
+    private final Map<CompositionKey, ExpectedValueTable> cache = Collections.synchronizedMap(new LinkedHashMap<CompositionKey, ExpectedValueTable>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CompositionKey, ExpectedValueTable> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    private ExecutorService calculator;
+
+    @PostConstruct
+    public void start() {
+        calculator = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "strategy-calculator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        calculator.shutdownNow();
+    }
+
+    /**
+     * @param playerId Id of the player.
+     * @param handId Id of the player's hand.
+     * @return the recommended decision and the expected value of every decision the hand allows.
+     */
+    @Override
+    public StrategyDTO getStrategy(int playerId, int handId) {
+        int tableId = playerService.getPlayerById(playerId).getTableId();
+        HandSnapshot snapshot = tableRegistry.execute(tableId, () -> {
+            PlayerDTO player = playerService.getPlayerById(playerId);
+            HandDTO playerHand = getHandByHandId(player, handId);
+            Dealer dealer = tableRegistry.getTable(tableId).getDealer();
+            Hand dealersHand = dealer.getDealersHand();
+            if (dealersHand.getCardsInHand().isEmpty()) {
+                throw new ApiRequestException(DealerServiceImpl.DEALER_HAS_NO_UP_CARD);
+            }
+            int[] remaining = dealer.getShoe().getComposition().copyRemaining();
+            return new HandSnapshot(playerHand, player.getHands().size() > 1,
+                    new CompositionKey(dealersHand.getCardsInHand().get(0).getRank(), remaining, dealer.getSoft17Rule()));
+        });
+        HandDTO hand = snapshot.hand;
+        CompositionKey key = snapshot.key;
+        int upCardRank = key.getUpCardRank();
+
+        boolean canDouble = hand.getCardCount() == 2;
+        boolean canSplit = hand.isSplittable();
+        boolean afterSplit = snapshot.afterSplit;
+        boolean canSurrender = canDouble && !afterSplit && upCardRank != 11;
+        ExpectedValueTable expectedValues = getExpectedValues(key);
+
+        StrategyDTO strategyDTO = new StrategyDTO();
+        strategyDTO.setHandId(handId);
+        if (expectedValues == null) {
+            strategyDTO.setSource(StrategyDTO.SOURCE_BASIC_STRATEGY);
+            strategyDTO.setExpectedValues(Collections.emptyMap());
+            strategyDTO.setRecommendedAction(BasicStrategy.recommend(hand.getHandState(), upCardRank,
+                    canDouble, canSplit, canSurrender));
+            return strategyDTO;
+        }
+
+        int handState = hand.getHandState();
+        Map<PlayerAction, Double> actionValues = new EnumMap<>(PlayerAction.class);
+        actionValues.put(PlayerAction.STAND, expectedValues.stand(handState, afterSplit));
+        if (!hand.isBlackJack()) {
+            actionValues.put(PlayerAction.HIT, expectedValues.hit(handState, afterSplit));
+            if (canDouble) {
+                actionValues.put(PlayerAction.DOUBLE, expectedValues.doubleDown(handState));
+            }
+            if (canSplit) {
+                actionValues.put(PlayerAction.SPLIT, expectedValues.split(handState));
+            }
+            if (canSurrender) {
+                actionValues.put(PlayerAction.SURRENDER, expectedValues.surrender());
+            }
+        }
+
+        PlayerAction recommendedAction = PlayerAction.STAND;
+        for (Map.Entry<PlayerAction, Double> actionValue : actionValues.entrySet()) {
+            if (actionValue.getValue() > actionValues.get(recommendedAction)) {
+                recommendedAction = actionValue.getKey();
+            }
+        }
+        strategyDTO.setSource(StrategyDTO.SOURCE_COMPOSITION);
+        strategyDTO.setExpectedValues(actionValues);
+        strategyDTO.setRecommendedAction(recommendedAction);
+        return strategyDTO;
+    }
+
+    /**
+     * @return the cached expected values or null if they could not be calculated within the latency budget.
+     */
+    private ExpectedValueTable getExpectedValues(CompositionKey key) {
+        ExpectedValueTable expectedValues = cache.get(key);
+        if (expectedValues != null) {
+            return expectedValues;
+        }
+        CompletableFuture<ExpectedValueTable> calculation = CompletableFuture.supplyAsync(() -> calculate(key), calculator);
+        try {
+            return calculation.get(budgetMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private ExpectedValueTable calculate(CompositionKey key) {
+        double[] dealerOutcomes = dealerOddsService.getDealerOutcomes(key.getUpCardRank(), key.getRemaining(), key.getSoft17Rule());
+        ExpectedValueTable expectedValues = new ExpectedValueTable(dealerOutcomes, key.getRemaining());
+        cache.put(key, expectedValues);
+        return expectedValues;
+    }
+
+    private HandDTO getHandByHandId(PlayerDTO player, int handId) {
+        for (HandDTO hand : player.getHands()) {
+            if (handId == hand.getHandId()) {
+                if (hand.isFinished()) {
+                    throw new ApiRequestException(String.format(HandServiceImpl.HAND_IS_FINISHED, handId));
+                }
+                return hand;
+            }
+        }
+        throw new ApiRequestException(String.format(HandServiceImpl.HAND_NOT_FOUND, handId));
+    }
+
+    /**
+     * The part of a player's hand and of the table's state the strategy is calculated from, copied on the table's mailbox.
+     */
+    private static final class HandSnapshot {
+
+        private final HandDTO hand;
+
+        private final boolean afterSplit;
+
+        private final CompositionKey key;
+
+        private HandSnapshot(HandDTO hand, boolean afterSplit, CompositionKey key) {
+            this.hand = hand;
+            this.afterSplit = afterSplit;
+            this.key = key;
+        }
+    }
+}
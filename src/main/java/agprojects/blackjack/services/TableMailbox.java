@@ -0,0 +1,117 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Table;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Single writer of one table. Commands are queued and run one at a time in the order they were submitted,
+ * so the table's dealer, shoe and seats are never changed by two threads at once and need no locks.
+ * The mailbox does not own a thread - it is scheduled on a shared pool whenever it has work
+ * and gives the thread back after a batch of commands, so many tables share a few threads fairly.
+ */
+final class TableMailbox implements Runnable {
+
+    /**
+     * Commands run before the thread is handed to the next table.
+     */
+    private static final int BATCH_SIZE = 64;
+
+    private static final ThreadLocal<TableMailbox> RUNNING = new ThreadLocal<>();
+
+    private final Table table;
+
+    private final Executor executor;
+
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    TableMailbox(Table table, Executor executor) {
+        this.table = table;
+        this.executor = executor;
+    }
+
+    Table getTable() {
+        return table;
+    }
+
+    /**
+     * Queues a command for the table.
+     * @return completes with the result of the command or with the exception it threw.
+     */
+    <T> QueuedCommand<T> submit(Supplier<T> command) {
+        QueuedCommand<T> result = new QueuedCommand<>();
+        commands.add(() -> {
+            if (!result.claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                result.complete(command.get());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * @return true if the calling thread is running a command of this table.
+     */
+    boolean isRunningOnCurrentThread() {
+        return RUNNING.get() == this;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        RUNNING.set(this);
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable command = commands.poll();
+                if (command == null) {
+                    break;
+                }
+                command.run();
+            }
+        } finally {
+            RUNNING.remove();
+            scheduled.set(false);
+            if (!commands.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Result of a queued command. A command is claimed once - either by the mailbox when it starts running it
+     * or by a caller that gives up waiting, so a command that was reported as failed never runs.
+     */
+    static final class QueuedCommand<T> extends CompletableFuture<T> {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        /**
+         * Cancels the command if the mailbox has not started it yet.
+         * @return false if the command is already running or done.
+         */
+        boolean cancelIfNotStarted() {
+            if (claimed.compareAndSet(false, true)) {
+                cancel(false);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.ShoeMode;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.Table;
+import agprojects.blackjack.models.rng.RngType;
+import agprojects.blackjack.services.base.ShoeSupplier;
+import agprojects.blackjack.services.base.TableRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Keeps all open tables. Every table gets its own dealer and shoe and a mailbox that runs
+ * every change to the table one at a time. The mailboxes of all tables share a fixed pool of
+ * one thread per core, so different tables are played in parallel and a single table never races with itself.
+ */
+@Service
+public class TableRegistryImpl implements TableRegistry {
+
+    public static final String TABLE_NOT_FOUND = "Table with id: %s was not found";
+
+    public static final String TABLE_HAS_PLAYERS = "Table with id: %s still has seated players";
+
+    public static final String TABLE_LIMIT_REACHED = "No more than %s tables can be open at the same time";
+
+    public static final String TABLE_BUSY = "Table with id: %s did not answer in time, try again";
+
+    @Autowired
+    ShoeSupplier shoeSupplier;
+
+    /**
+     * Commands run in a transaction, so the players they load stay attached while the command runs.
+     * Without a transaction manager (tests and benchmarks) commands run without a transaction.
+     */
+    @Autowired(required = false)
+    TransactionTemplate transactionTemplate;
+
+    @Value("${blackjack.dealer.soft17:STAND}")
+    Soft17Rule defaultSoft17Rule = Soft17Rule.STAND;
+
+    @Value("${blackjack.shoe.mode:CLASSIC}")
+    ShoeMode defaultShoeMode = ShoeMode.CLASSIC;
+
+    @Value("${blackjack.shuffle.rng:FAST}")
+    RngType defaultRngType = RngType.FAST;
+
+    @Value("${blackjack.tables.initial:1}")
+    int initialTables = 1;
+
+    @Value("${blackjack.tables.max:1000}")
+    int maxTables = 1000;
+
+    /**
+     * Number of threads the tables are played on, 0 uses one per core.
+     */
+    @Value("${blackjack.tables.threads:0}")
+    int threads = 0;
+
+    @Value("${blackjack.tables.command-timeout-ms:5000}")
+    long commandTimeoutMillis = 5000;
+
+    private final Map<Integer, TableMailbox> tables = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextTableId = new AtomicInteger(1);
+
+    /**
+     * Open tables and tables being opened - a slot is taken before the table is created,
+     * so concurrent calls cannot open more than maxTables.
+     */
+    private final AtomicInteger openTables = new AtomicInteger();
+
+    private ExecutorService tableWorkers;
+
+    /**
+     * Starts the table threads and opens the tables that are available as soon as the application starts.
+     */
+    @PostConstruct
+    public void start() {
+        AtomicInteger workerNumber = new AtomicInteger(1);
+        tableWorkers = Executors.newFixedThreadPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "table-worker-" + workerNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < initialTables; i++) {
+            createTable(null, null, null);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        tableWorkers.shutdown();
+    }
+
+    /**
+     * Opens a new table with its own dealer and a freshly shuffled shoe.
+     * @param soft17Rule soft 17 rule of the table or null for the default.
+     * @param shoeMode kind of shoe of the table or null for the default.
+     * @param rngType kind of generator the shoes of the table are shuffled with or null for the default.
+     * @return the new table.
+     */
+    @Override
+    public Table createTable(Soft17Rule soft17Rule, ShoeMode shoeMode, RngType rngType) {
+        if (openTables.incrementAndGet() > maxTables) {
+            openTables.decrementAndGet();
+            throw new ApiRequestException(String.format(TABLE_LIMIT_REACHED, maxTables));
+        }
+        try {
+            return openTable(soft17Rule, shoeMode, rngType);
+        } catch (RuntimeException e) {
+            openTables.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private Table openTable(Soft17Rule soft17Rule, ShoeMode shoeMode, RngType rngType) {
+        int tableId = nextTableId.getAndIncrement();
+        Dealer dealer = new Dealer(soft17Rule != null ? soft17Rule : defaultSoft17Rule);
+        RngType tableRngType = rngType != null ? rngType : defaultRngType;
+        if ((shoeMode != null ? shoeMode : defaultShoeMode) == ShoeMode.CONTINUOUS) {
+            dealer.replaceShoe(shoeSupplier.newContinuousShuffler(tableId, tableRngType));
+        } else {
+            dealer.replaceShoe(shoeSupplier.nextShoe(tableId, tableRngType));
+        }
+        Table table = new Table(tableId, dealer, tableRngType);
+        tables.put(table.getTableId(), new TableMailbox(table, tableWorkers));
+        return table;
+    }
+
+    @Override
+    public Table getTable(int tableId) {
+        return getMailbox(tableId).getTable();
+    }
+
+    @Override
+    public Collection<Table> getTables() {
+        List<Table> openTables = new ArrayList<>(tables.size());
+        for (TableMailbox mailbox : tables.values()) {
+            openTables.add(mailbox.getTable());
+        }
+        return openTables;
+    }
+
+    /**
+     * Closes an empty table.
+     * @param tableId Id of the table.
+     */
+    @Override
+    public void closeTable(int tableId) {
+        execute(tableId, () -> {
+            if (getTable(tableId).getSeatsTaken() > 0) {
+                throw new ApiRequestException(String.format(TABLE_HAS_PLAYERS, tableId));
+            }
+            TableMailbox mailbox = tables.remove(tableId);
+            if (mailbox != null) {
+                openTables.decrementAndGet();
+            }
+            return mailbox;
+        });
+    }
+
+    /**
+     * Runs a command on the table's mailbox and waits for its result.
+     * A command that is already running on the table's mailbox runs nested commands for the same table directly.
+     * A command that has not started when the timeout passes is cancelled and never runs, so a command
+     * reported as busy never changes the table - one that already started is waited for.
+     * @param tableId Id of the table.
+     * @param command change or read of the table's state.
+     * @return the result of the command.
+     */
+    @Override
+    public <T> T execute(int tableId, Supplier<T> command) {
+        TableMailbox mailbox = getMailbox(tableId);
+        if (mailbox.isRunningOnCurrentThread()) {
+            return command.get();
+        }
+        TableMailbox.QueuedCommand<T> result = mailbox.submit(transactionTemplate == null
+                ? command
+                : () -> transactionTemplate.execute(status -> command.get()));
+        try {
+            try {
+                return result.get(commandTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (result.cancelIfNotStarted()) {
+                    throw new ApiRequestException(String.format(TABLE_BUSY, tableId));
+                }
+                // The command is already running - its change will be applied, so its result is waited for.
+                return awaitStarted(result);
+            } catch (InterruptedException e) {
+                if (result.cancelIfNotStarted()) {
+                    Thread.currentThread().interrupt();
+                    throw new ApiRequestException(String.format(TABLE_BUSY, tableId));
+                }
+                try {
+                    return awaitStarted(result);
+                } finally {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Waits for a command that already started, without giving up when the waiting thread is interrupted.
+     */
+    private static <T> T awaitStarted(Future<T> result) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return result.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private TableMailbox getMailbox(int tableId) {
+        TableMailbox mailbox = tables.get(tableId);
+        if (mailbox == null) {
+            throw new ApiRequestException(String.format(TABLE_NOT_FOUND, tableId));
+        }
+        return mailbox;
+    }
+}
@@ -0,0 +1,105 @@
+package agprojects.blackjack.services;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-memory balance of one player in minor units, shared by all the tables the player plays at.
+ * The available money is split into stripes, so concurrent bets of a hot account compare-and-set different
+ * counters instead of all retrying on one. A stripe never goes below zero, so the account can never be overdrawn.
+ */
+final class Wallet {
+
+    private final AtomicLongArray stripes;
+
+    private final int stripeMask;
+
+    /**
+     * Money taken from the balance for bets that are not settled yet.
+     */
+    private final AtomicLong reserved = new AtomicLong();
+
+    /**
+     * @param balance available money in minor units.
+     * @param numberOfStripes number of counters the balance is split into, a power of two.
+     */
+    Wallet(long balance, int numberOfStripes) {
+        if (numberOfStripes < 1 || Integer.bitCount(numberOfStripes) != 1) {
+            throw new IllegalArgumentException("Number of stripes must be a power of two");
+        }
+        this.stripes = new AtomicLongArray(numberOfStripes);
+        this.stripeMask = numberOfStripes - 1;
+        stripes.set(0, balance);
+    }
+
+    /**
+     * Takes money from the balance for a bet.
+     * The home stripe of the calling thread is tried first, only if it does not hold enough
+     * the money is gathered from all stripes - and given back if the balance is still not enough.
+     * @param amount money to reserve, more than zero - a negative reservation would add to the balance.
+     * @return false if the balance is not enough, nothing is reserved then.
+     */
+    boolean tryReserve(long amount) {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Amount to reserve must be positive: " + amount);
+        }
+        int home = homeStripe();
+        long available = stripes.get(home);
+        while (available >= amount) {
+            if (stripes.compareAndSet(home, available, available - amount)) {
+                reserved.addAndGet(amount);
+                return true;
+            }
+            available = stripes.get(home);
+        }
+
+        long gathered = 0;
+        for (int i = 0; i <= stripeMask && gathered < amount; i++) {
+            long needed = amount - gathered;
+            long before = stripes.getAndUpdate((home + i) & stripeMask, stripe -> stripe - Math.min(stripe, needed));
+            gathered += Math.min(before, needed);
+        }
+        if (gathered < amount) {
+            stripes.addAndGet(home, gathered);
+            return false;
+        }
+        reserved.addAndGet(amount);
+        return true;
+    }
+
+    /**
+     * Returns a reservation that was not used to the balance.
+     */
+    void release(long amount) {
+        reserved.addAndGet(-amount);
+        stripes.addAndGet(homeStripe(), amount);
+    }
+
+    /**
+     * The stake of settled hands leaves the reservation and the payout is added to the balance.
+     */
+    void settle(long stake, long payout) {
+        reserved.getAndUpdate(reservation -> Math.max(0, reservation - stake));
+        credit(payout);
+    }
+
+    void credit(long amount) {
+        stripes.addAndGet(homeStripe(), amount);
+    }
+
+    long getAvailable() {
+        long available = 0;
+        for (int i = 0; i <= stripeMask; i++) {
+            available += stripes.get(i);
+        }
+        return available;
+    }
+
+    long getReserved() {
+        return reserved.get();
+    }
+
+    private int homeStripe() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+}
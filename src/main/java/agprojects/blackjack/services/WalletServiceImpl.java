@@ -0,0 +1,169 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.repositories.PlayerRepository;
+import agprojects.blackjack.services.base.WalletService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that keeps the balances of all players in memory, so bets from all tables of a player
+ * are reserved against one balance without waiting for a database row lock.
+ * A bet is reserved when it is placed, doubled or split and leaves the reservation when its hand is settled.
+ * Changed balances are written to the database in the background.
+ */
+@Service
+public class WalletServiceImpl implements WalletService {
+
+    @Autowired
+    PlayerRepository playerRepository;
+
+    /**
+     * Without a transaction manager (tests and benchmarks) the balances are written without a transaction.
+     */
+    @Autowired(required = false)
+    TransactionTemplate transactionTemplate;
+
+    /**
+     * Number of counters every balance is split into, a power of two.
+     */
+    @Value("${blackjack.wallet.stripes:4}")
+    int stripes = 4;
+
+    private final Map<Integer, Wallet> wallets = new ConcurrentHashMap<>();
+
+    private final Set<Integer> changedWallets = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @return the available balance of the player, also set on the player.
+     */
+    @Override
+    public long getBalance(Player player) {
+        long balance = getWallet(player).getAvailable();
+        player.setBalance(balance);
+        return balance;
+    }
+
+    /**
+     * Takes money from the balance for a bet. Inside a transaction the reservation is released again
+     * if the transaction rolls back, so a failed action never keeps the player's money.
+     * @return false if the balance is not enough, nothing is reserved then.
+     */
+    @Override
+    public boolean tryReserve(Player player, long amount) {
+        Wallet wallet = getWallet(player);
+        if (!wallet.tryReserve(amount)) {
+            return false;
+        }
+        changed(player, wallet);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        wallet.release(amount);
+                        changedWallets.add(player.getPlayerId());
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    /**
+     * Returns a reservation that was not used to the balance.
+     */
+    @Override
+    public void release(Player player, long amount) {
+        Wallet wallet = getWallet(player);
+        wallet.release(amount);
+        changed(player, wallet);
+    }
+
+    /**
+     * The stake of settled hands leaves the reservation and the payout is added to the balance.
+     * Money is only added once the surrounding transaction commits, so a settlement that is rolled back
+     * and run again cannot pay twice.
+     */
+    @Override
+    public void settle(Player player, long stake, long payout) {
+        Wallet wallet = getWallet(player);
+        afterCommit(player, wallet, () -> wallet.settle(stake, payout), payout);
+    }
+
+    /**
+     * Adds money to the balance, once the surrounding transaction commits.
+     */
+    @Override
+    public void credit(Player player, long amount) {
+        Wallet wallet = getWallet(player);
+        afterCommit(player, wallet, () -> wallet.credit(amount), amount);
+    }
+
+    /**
+     * Writes the balances that changed since the last flush in one transaction.
+     * @return number of written balances.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${blackjack.wallet.flush-interval-ms:100}")
+    public int flush() {
+        if (changedWallets.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate == null ? writeChangedBalances() : transactionTemplate.execute(status -> writeChangedBalances());
+    }
+
+    @PreDestroy
+    public void stop() {
+        flush();
+    }
+
+    private int writeChangedBalances() {
+        int written = 0;
+        Iterator<Integer> playerIds = changedWallets.iterator();
+        while (playerIds.hasNext()) {
+            Integer playerId = playerIds.next();
+            // Removed before the balance is read, a change made meanwhile marks the wallet again.
+            playerIds.remove();
+            playerRepository.updateBalance(playerId, wallets.get(playerId).getAvailable());
+            written++;
+        }
+        return written;
+    }
+
+    private Wallet getWallet(Player player) {
+        return wallets.computeIfAbsent(player.getPlayerId(), playerId -> new Wallet(player.getBalance(), stripes));
+    }
+
+    private void changed(Player player, Wallet wallet) {
+        player.setBalance(wallet.getAvailable());
+        changedWallets.add(player.getPlayerId());
+    }
+
+    private void afterCommit(Player player, Wallet wallet, Runnable change, long added) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            player.setBalance(wallet.getAvailable() + added);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                    changedWallets.add(player.getPlayerId());
+                }
+            });
+        } else {
+            change.run();
+            changed(player, wallet);
+        }
+    }
+}
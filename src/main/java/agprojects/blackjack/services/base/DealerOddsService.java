@@ -0,0 +1,11 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.Soft17Rule;
+
+/**
+ * Calculates the probabilities of the dealer's final result.
+ */
+public interface DealerOddsService {
+
+    double[] getDealerOutcomes(int upCardRank, int[] remaining, Soft17Rule soft17Rule);
+}
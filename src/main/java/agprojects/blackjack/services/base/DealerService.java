@@ -1,14 +1,14 @@
 package agprojects.blackjack.services.base;
 
-import agprojects.blackjack.models.Hand;
-import java.util.Map;
+import agprojects.blackjack.models.dto.DealDTO;
+import agprojects.blackjack.models.dto.HandDTO;
 
 /**
  * Base methods for the Dealer Service.
  */
 public interface DealerService {
 
-    Map<String, Hand> deal();
+    DealDTO deal(int tableId);
 
-    Hand hitDealer();
+    HandDTO hitDealer(int tableId);
 }
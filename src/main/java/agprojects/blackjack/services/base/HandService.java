@@ -1,5 +1,6 @@
 package agprojects.blackjack.services.base;
 
+import agprojects.blackjack.models.Dealer;
 import agprojects.blackjack.models.Player;
 
 /**
@@ -7,10 +8,16 @@ import agprojects.blackjack.models.Player;
  */
 public interface HandService {
 
-    void hit(Player player, int handId);
-    void doubleDown(Player player, int handId);
-    void split(Player player, int handId);
-    void surrender(Player player, int handId);
+    void hit(Dealer dealer, Player player, int handId);
+    /**
+     * @return the stake reserved from the player's wallet for the doubled bet.
+     */
+    long doubleDown(Dealer dealer, Player player, int handId);
+    /**
+     * @return the stake reserved from the player's wallet for the new hand.
+     */
+    long split(Player player, int handId);
+    void surrender(Dealer dealer, Player player, int handId);
     void stand(Player player, int handId);
 
 }
@@ -0,0 +1,19 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+
+import java.util.List;
+
+/**
+ * Base methods for the Ledger Service.
+ */
+public interface LedgerService {
+
+    void record(Player player, LedgerEntryType type, long amount);
+
+    int flush();
+
+    List<LedgerEntry> getEntries(int playerId);
+}
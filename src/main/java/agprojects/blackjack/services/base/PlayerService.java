@@ -1,7 +1,9 @@
 package agprojects.blackjack.services.base;
 
+import agprojects.blackjack.models.LedgerEntry;
 import agprojects.blackjack.models.Player;
 import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.models.dto.RetryStatsDTO;
 
 import java.util.List;
 
@@ -12,22 +14,34 @@ public interface PlayerService {
 
     Player createNewPlayer(PlayerDTO player);
 
+    PlayerDTO getPlayerById(int playerId);
+
     List<Player> getAllPlayers();
 
-    Player placeBet(int playerId, double playerBet);
+    List<Player> getPlayersPage(int afterPlayerId, int limit);
+
+    List<Player> getPlayersAtTable(int tableId);
+
+    PlayerDTO placeBet(int playerId, long playerBet);
+
+    Player addBalanceToPlayer(int playerId, long playerBalanceToAdd);
+
+    List<LedgerEntry> getLedger(int playerId);
+
+    RetryStatsDTO getRetryStats();
 
-    Player addBalanceToPlayer(int playerId, int playerBalanceToAdd);
+    PlayerDTO seatPlayer(int tableId, int playerId, int playerSeat);
 
-    Player seatPlayer(int playerId, int playerSeat);
+    PlayerDTO leaveTable(int tableId, int playerId);
 
-    Player hit(int playerId, int handId);
+    PlayerDTO hit(int tableId, int playerId, int handId);
 
-    Player doubleDown(int playerId, int handId);
+    PlayerDTO doubleDown(int tableId, int playerId, int handId);
 
-    Player stand (int playerId, int handId);
+    PlayerDTO stand (int tableId, int playerId, int handId);
 
-    Player split (int playerId, int handId);
+    PlayerDTO split (int tableId, int playerId, int handId);
 
-    Player surrender (int playerId, int handId);
+    PlayerDTO surrender (int tableId, int playerId, int handId);
 
 }
@@ -0,0 +1,30 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.Player;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the players of every table while they play and decides when their changes are written.
+ * Everything except the checkpoint runs on the table's mailbox.
+ */
+public interface RoundStateService {
+
+    Optional<Player> getPlayer(int tableId, int playerId);
+
+    List<Player> getPlayersAtTable(int tableId);
+
+    void update(Player player);
+
+    void updateAll(Collection<Player> players);
+
+    void write(int tableId, Player player);
+
+    void addNewHands(Player player);
+
+    int endRound(int tableId);
+
+    int checkpoint();
+}
@@ -0,0 +1,14 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+
+import java.util.List;
+
+/**
+ * Base methods for the Settlement Service.
+ */
+public interface SettlementService {
+
+    List<Player> settle(Hand dealersHand, List<Player> players);
+}
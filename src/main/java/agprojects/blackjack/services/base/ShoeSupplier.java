@@ -0,0 +1,18 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.ContinuousShuffler;
+import agprojects.blackjack.models.Deck;
+import agprojects.blackjack.models.dto.ShoePoolStatsDTO;
+import agprojects.blackjack.models.rng.RngType;
+
+/**
+ * Supplies shuffled shoes to the dealers.
+ */
+public interface ShoeSupplier {
+
+    Deck nextShoe(int tableId, RngType rngType);
+
+    ContinuousShuffler newContinuousShuffler(int tableId, RngType rngType);
+
+    ShoePoolStatsDTO getStats();
+}
@@ -0,0 +1,14 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.rng.RandomStream;
+import agprojects.blackjack.models.rng.RngType;
+
+/**
+ * Hands out the random streams tables shuffle with.
+ */
+public interface ShuffleService {
+
+    RandomStream newStream(RngType rngType);
+
+    RandomStream replay(RngType rngType, long seed);
+}
@@ -0,0 +1,14 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.dto.SimulationDTO;
+import agprojects.blackjack.models.dto.SimulationRequestDTO;
+
+/**
+ * Base methods for the Simulation Service.
+ */
+public interface SimulationService {
+
+    SimulationDTO startSimulation(SimulationRequestDTO request);
+
+    SimulationDTO getSimulation(int simulationId);
+}
@@ -0,0 +1,11 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.dto.StrategyDTO;
+
+/**
+ * Base methods for the Strategy Service.
+ */
+public interface StrategyService {
+
+    StrategyDTO getStrategy(int playerId, int handId);
+}
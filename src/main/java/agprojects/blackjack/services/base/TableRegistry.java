@@ -0,0 +1,25 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.ShoeMode;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.Table;
+import agprojects.blackjack.models.rng.RngType;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * Creates, looks up and closes the tables of the casino.
+ */
+public interface TableRegistry {
+
+    Table createTable(Soft17Rule soft17Rule, ShoeMode shoeMode, RngType rngType);
+
+    Table getTable(int tableId);
+
+    Collection<Table> getTables();
+
+    void closeTable(int tableId);
+
+    <T> T execute(int tableId, Supplier<T> command);
+}
@@ -0,0 +1,21 @@
+package agprojects.blackjack.services.base;
+
+import agprojects.blackjack.models.Player;
+
+/**
+ * Base methods for the Wallet Service.
+ */
+public interface WalletService {
+
+    long getBalance(Player player);
+
+    boolean tryReserve(Player player, long amount);
+
+    void release(Player player, long amount);
+
+    void settle(Player player, long stake, long payout);
+
+    void credit(Player player, long amount);
+
+    int flush();
+}
@@ -0,0 +1,176 @@
+package agprojects.blackjack.simulation;
+
+import agprojects.blackjack.models.BasicStrategy;
+import agprojects.blackjack.models.Deck;
+import agprojects.blackjack.models.HandState;
+import agprojects.blackjack.models.PlayerAction;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.rng.RandomStream;
+
+/**
+ * Plays rounds of one player against the dealer with the game's own shoe and hand rules.
+ * Hands are kept as {@link HandState} values in arrays owned by the simulator,
+ * so a round does not allocate and a simulator must only be used by one thread.
+ * The player follows the {@link BasicStrategy} chart with a flat bet of one unit.
+ * Like at the live tables the dealer has no hole card: the dealer's second card is drawn after the player's hands
+ * are played, a dealer BlackJack takes every doubled and split bet, and a surrender - only against an up card
+ * other than an Ace - always returns half of the bet.
+ */
+public final class RoundSimulator {
+
+    /**
+     * Upper bound for the number of hands a player may split into.
+     */
+    public static final int MAX_HANDS = 4;
+
+    private final SimulationRules rules;
+
+    private final Soft17Rule soft17Rule;
+
+    private final Deck shoe;
+
+    private final int[] handStates = new int[MAX_HANDS];
+
+    /**
+     * Bet of every hand in units of the initial bet - 2 once the hand is doubled.
+     */
+    private final int[] bets = new int[MAX_HANDS];
+
+    private int handCount;
+
+    public RoundSimulator(SimulationRules rules, RandomStream random) {
+        this.rules = rules;
+        this.soft17Rule = rules.getSoft17Rule();
+        this.shoe = new Deck(rules.getNumberOfDecks(), rules.getPenetration(), random);
+    }
+
+    /**
+     * Plays one round and records it in the tally.
+     */
+    public void playRound(SimulationTally tally) {
+        if (shoe.isCutCardReached()) {
+            shoe.reshuffle();
+        }
+        int playerState = HandState.next(HandState.EMPTY, draw());
+        int upCardRank = draw();
+        playerState = HandState.next(playerState, draw());
+        tally.recordHand();
+
+        handStates[0] = playerState;
+        bets[0] = 1;
+        handCount = 1;
+        boolean playerBlackJack = HandState.isBlackJack(playerState);
+        boolean surrendered = false;
+        if (!playerBlackJack) {
+            for (int hand = 0; hand < handCount && !surrendered; hand++) {
+                surrendered = !playHand(hand, upCardRank, tally);
+            }
+        }
+
+        int dealerState = HandState.next(HandState.next(HandState.EMPTY, upCardRank), draw());
+        boolean dealerBlackJack = HandState.isBlackJack(dealerState);
+        if (dealerBlackJack) {
+            tally.recordDealerBlackJack();
+        }
+        if (surrendered) {
+            tally.recordSurrender();
+            tally.recordRound(-0.5);
+            return;
+        }
+        if (playerBlackJack) {
+            tally.recordPlayerBlackJack();
+            tally.recordRound(dealerBlackJack ? 0 : rules.getBlackJackPayout());
+            return;
+        }
+
+        boolean allBust = true;
+        for (int hand = 0; hand < handCount; hand++) {
+            allBust &= HandState.isBust(handStates[hand]);
+        }
+        if (!allBust) {
+            while (soft17Rule.mustDraw(dealerState)) {
+                dealerState = HandState.next(dealerState, draw());
+            }
+        }
+        boolean dealerBust = HandState.isBust(dealerState);
+        if (dealerBust) {
+            tally.recordDealerBust();
+        }
+
+        int dealerTotal = HandState.total(dealerState);
+        double net = 0;
+        for (int hand = 0; hand < handCount; hand++) {
+            int handState = handStates[hand];
+            if (HandState.isBust(handState)) {
+                tally.recordPlayerBust();
+                net -= bets[hand];
+            } else if (dealerBlackJack) {
+                net -= bets[hand];
+            } else if (dealerBust || HandState.total(handState) > dealerTotal) {
+                net += bets[hand];
+            } else if (HandState.total(handState) < dealerTotal) {
+                net -= bets[hand];
+            }
+        }
+        tally.recordRound(net);
+    }
+
+    /**
+     * Plays one hand until it stands, busts or is doubled. A split adds the second hand to the end of the arrays.
+     * Split Aces get one card each. A two card 21 on a split hand counts as 21, not as a BlackJack.
+     * @return false if the hand was surrendered.
+     */
+    private boolean playHand(int hand, int upCardRank, SimulationTally tally) {
+        while (true) {
+            int handState = handStates[hand];
+            if (HandState.cardCountBucket(handState) == 1) {
+                handStates[hand] = HandState.next(handState, draw());
+                if (HandState.hardTotal(handState) == 1) {
+                    return true;
+                }
+                continue;
+            }
+            boolean split = handCount > 1;
+            boolean twoCards = HandState.cardCountBucket(handState) == 2;
+            PlayerAction action = BasicStrategy.recommend(handState, upCardRank,
+                    twoCards && (!split || rules.isDoubleAfterSplit()),
+                    twoCards && HandState.isPair(handState) && handCount < rules.getMaxHands(),
+                    twoCards && !split && upCardRank != 11 && rules.isSurrenderAllowed());
+            switch (action) {
+                case HIT:
+                    handStates[hand] = HandState.next(handState, draw());
+                    break;
+                case DOUBLE:
+                    tally.recordDouble();
+                    bets[hand] = 2;
+                    handStates[hand] = HandState.next(handState, draw());
+                    return true;
+                case SPLIT:
+                    tally.recordSplit();
+                    tally.recordHand();
+                    int pairRank = HandState.pairRank(handState);
+                    int splitState = HandState.next(HandState.EMPTY, pairRank);
+                    handStates[hand] = splitState;
+                    handStates[handCount] = splitState;
+                    bets[handCount] = 1;
+                    handCount++;
+                    break;
+                case SURRENDER:
+                    return false;
+                default:
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * A round that empties the shoe is only possible with full penetration, the shoe is then reshuffled mid round.
+     * @return rank of the next card.
+     */
+    private int draw() {
+        if (shoe.getNumberOfCards() == 0) {
+            shoe.reshuffle();
+        }
+        return shoe.getCard().getRank();
+    }
+}
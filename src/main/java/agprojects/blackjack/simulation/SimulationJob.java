@@ -0,0 +1,109 @@
+package agprojects.blackjack.simulation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A simulation that was started through the API - its rules, progress and, once finished, its result.
+ */
+public final class SimulationJob {
+
+    private final int id;
+
+    private final SimulationRules rules;
+
+    private final long rounds;
+
+    private final long seed;
+
+    private final LongAdder roundsCompleted = new LongAdder();
+
+    private final long startedAt = System.currentTimeMillis();
+
+    private volatile long finishedAt;
+
+    private volatile SimulationStatus status = SimulationStatus.RUNNING;
+
+    private volatile SimulationTally result;
+
+    private volatile String error;
+
+    public SimulationJob(int id, SimulationRules rules, long rounds, long seed) {
+        this.id = id;
+        this.rules = rules;
+        this.rounds = rounds;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays all rounds of the job on the calling fork/join pool and stores the result.
+     */
+    public void run() {
+        try {
+            complete(new SimulationTask(this, 0, rounds).invoke());
+        } catch (RuntimeException e) {
+            error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finishedAt = System.currentTimeMillis();
+            status = SimulationStatus.FAILED;
+        }
+    }
+
+    private void complete(SimulationTally tally) {
+        result = tally;
+        finishedAt = System.currentTimeMillis();
+        status = SimulationStatus.COMPLETED;
+    }
+
+    void addProgress(long completedRounds) {
+        roundsCompleted.add(completedRounds);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public SimulationRules getRules() {
+        return rules;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getRoundsCompleted() {
+        return roundsCompleted.sum();
+    }
+
+    public SimulationStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * @return the merged tally of all workers or null while the job is running.
+     */
+    public SimulationTally getResult() {
+        return result;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * @return the time the job completed or failed or 0 while it is running.
+     */
+    public long getFinishedAt() {
+        return status == SimulationStatus.RUNNING ? 0 : finishedAt;
+    }
+
+    /**
+     * @return milliseconds from the start of the job until now or until it finished.
+     */
+    public long getElapsedMillis() {
+        long end = status == SimulationStatus.RUNNING ? System.currentTimeMillis() : finishedAt;
+        return end - startedAt;
+    }
+}
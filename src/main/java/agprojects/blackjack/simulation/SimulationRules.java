@@ -0,0 +1,73 @@
+package agprojects.blackjack.simulation;
+
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.rng.RngType;
+
+/**
+ * Table rules and pay table a simulation is played with.
+ */
+public final class SimulationRules {
+
+    private final int numberOfDecks;
+    private final double penetration;
+    private final Soft17Rule soft17Rule;
+    private final double blackJackPayout;
+    private final boolean doubleAfterSplit;
+    private final boolean surrenderAllowed;
+    private final int maxHands;
+    private final RngType rngType;
+
+    /**
+     * @param numberOfDecks number of decks in the shoe.
+     * @param penetration part of the shoe dealt before it is reshuffled.
+     * @param soft17Rule whether the dealer hits soft 17.
+     * @param blackJackPayout amount paid per unit bet on a player BlackJack - 1.5 for 3:2, 1.2 for 6:5.
+     * @param doubleAfterSplit true if split hands may be doubled.
+     * @param surrenderAllowed true if a two card hand may be surrendered against an up card other than an Ace.
+     * @param maxHands number of hands a player may split up to.
+     * @param rngType generator the shoes are shuffled with.
+     */
+    public SimulationRules(int numberOfDecks, double penetration, Soft17Rule soft17Rule, double blackJackPayout,
+                           boolean doubleAfterSplit, boolean surrenderAllowed, int maxHands, RngType rngType) {
+        this.numberOfDecks = numberOfDecks;
+        this.penetration = penetration;
+        this.soft17Rule = soft17Rule;
+        this.blackJackPayout = blackJackPayout;
+        this.doubleAfterSplit = doubleAfterSplit;
+        this.surrenderAllowed = surrenderAllowed;
+        this.maxHands = maxHands;
+        this.rngType = rngType;
+    }
+
+    public int getNumberOfDecks() {
+        return numberOfDecks;
+    }
+
+    public double getPenetration() {
+        return penetration;
+    }
+
+    public Soft17Rule getSoft17Rule() {
+        return soft17Rule;
+    }
+
+    public double getBlackJackPayout() {
+        return blackJackPayout;
+    }
+
+    public boolean isDoubleAfterSplit() {
+        return doubleAfterSplit;
+    }
+
+    public boolean isSurrenderAllowed() {
+        return surrenderAllowed;
+    }
+
+    public int getMaxHands() {
+        return maxHands;
+    }
+
+    public RngType getRngType() {
+        return rngType;
+    }
+}
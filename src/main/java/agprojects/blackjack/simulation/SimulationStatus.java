@@ -0,0 +1,10 @@
+package agprojects.blackjack.simulation;
+
+/**
+ * Lifecycle of a simulation job.
+ */
+public enum SimulationStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
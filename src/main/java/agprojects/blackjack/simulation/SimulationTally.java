@@ -0,0 +1,145 @@
+package agprojects.blackjack.simulation;
+
+/**
+ * Running totals of a simulation. Every worker fills its own tally, they are merged when the workers finish,
+ * so nothing is shared while rounds are played. Results are in units of the initial bet.
+ */
+public final class SimulationTally {
+
+    private long rounds;
+    private long handsPlayed;
+    private double totalNet;
+    private double totalNetSquared;
+    private long playerBlackJacks;
+    private long dealerBlackJacks;
+    private long playerBusts;
+    private long dealerBusts;
+    private long doubles;
+    private long splits;
+    private long surrenders;
+
+    void recordRound(double net) {
+        rounds++;
+        totalNet += net;
+        totalNetSquared += net * net;
+    }
+
+    void recordHand() {
+        handsPlayed++;
+    }
+
+    void recordPlayerBlackJack() {
+        playerBlackJacks++;
+    }
+
+    void recordDealerBlackJack() {
+        dealerBlackJacks++;
+    }
+
+    void recordPlayerBust() {
+        playerBusts++;
+    }
+
+    void recordDealerBust() {
+        dealerBusts++;
+    }
+
+    void recordDouble() {
+        doubles++;
+    }
+
+    void recordSplit() {
+        splits++;
+    }
+
+    void recordSurrender() {
+        surrenders++;
+    }
+
+    /**
+     * Adds the totals of another tally to this one.
+     * @return this tally.
+     */
+    SimulationTally merge(SimulationTally other) {
+        rounds += other.rounds;
+        handsPlayed += other.handsPlayed;
+        totalNet += other.totalNet;
+        totalNetSquared += other.totalNetSquared;
+        playerBlackJacks += other.playerBlackJacks;
+        dealerBlackJacks += other.dealerBlackJacks;
+        playerBusts += other.playerBusts;
+        dealerBusts += other.dealerBusts;
+        doubles += other.doubles;
+        splits += other.splits;
+        surrenders += other.surrenders;
+        return this;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getHandsPlayed() {
+        return handsPlayed;
+    }
+
+    /**
+     * @return the casino's advantage - average loss of the player per unit of initial bet.
+     */
+    public double getHouseEdge() {
+        return rounds == 0 ? 0 : -totalNet / rounds;
+    }
+
+    /**
+     * @return variance of the player's result per round.
+     */
+    public double getVariance() {
+        if (rounds == 0) {
+            return 0;
+        }
+        double mean = totalNet / rounds;
+        return totalNetSquared / rounds - mean * mean;
+    }
+
+    /**
+     * @return standard error of the house edge - how far the estimate may be off.
+     */
+    public double getStandardError() {
+        return rounds == 0 ? 0 : Math.sqrt(getVariance() / rounds);
+    }
+
+    public double getPlayerBlackJackFrequency() {
+        return frequency(playerBlackJacks, rounds);
+    }
+
+    public double getDealerBlackJackFrequency() {
+        return frequency(dealerBlackJacks, rounds);
+    }
+
+    /**
+     * @return part of all played hands, split hands included, that went bust.
+     */
+    public double getPlayerBustFrequency() {
+        return frequency(playerBusts, handsPlayed);
+    }
+
+    public double getDealerBustFrequency() {
+        return frequency(dealerBusts, rounds);
+    }
+
+    public double getDoubleFrequency() {
+        return frequency(doubles, rounds);
+    }
+
+    public double getSplitFrequency() {
+        return frequency(splits, rounds);
+    }
+
+    public double getSurrenderFrequency() {
+        return frequency(surrenders, rounds);
+    }
+
+    private static double frequency(long count, long total) {
+        return total == 0 ? 0 : count / (double) total;
+    }
+}
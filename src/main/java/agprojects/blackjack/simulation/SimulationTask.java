@@ -0,0 +1,70 @@
+package agprojects.blackjack.simulation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task that plays a range of rounds. Ranges are halved until they are small enough,
+ * then every leaf plays its rounds on its own shoe shuffled by its own stream.
+ * The seed of a leaf depends only on the job seed and the first round of the range,
+ * so the same seed gives the same result on any number of cores.
+ */
+final class SimulationTask extends RecursiveTask<SimulationTally> {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Rounds played by one leaf - large enough that a fresh shoe per leaf does not matter.
+     */
+    static final long ROUNDS_PER_LEAF = 1 << 18;
+
+    /**
+     * Rounds played between two progress updates.
+     */
+    private static final int PROGRESS_INTERVAL = 1 << 14;
+
+    private final SimulationJob job;
+
+    private final long fromRound;
+
+    private final long toRound;
+
+    SimulationTask(SimulationJob job, long fromRound, long toRound) {
+        this.job = job;
+        this.fromRound = fromRound;
+        this.toRound = toRound;
+    }
+
+    @Override
+    protected SimulationTally compute() {
+        if (toRound - fromRound > ROUNDS_PER_LEAF) {
+            long middle = fromRound + (toRound - fromRound) / 2;
+            SimulationTask left = new SimulationTask(job, fromRound, middle);
+            left.fork();
+            SimulationTally right = new SimulationTask(job, middle, toRound).compute();
+            return left.join().merge(right);
+        }
+
+        SimulationRules rules = job.getRules();
+        RoundSimulator simulator = new RoundSimulator(rules, rules.getRngType().create(leafSeed(job.getSeed(), fromRound)));
+        SimulationTally tally = new SimulationTally();
+        for (long round = fromRound; round < toRound; ) {
+            long batch = Math.min(PROGRESS_INTERVAL, toRound - round);
+            for (long i = 0; i < batch; i++) {
+                simulator.playRound(tally);
+            }
+            round += batch;
+            job.addProgress(batch);
+        }
+        return tally;
+    }
+
+    /**
+     * Spreads the bits of the job seed and the first round (SplitMix64 finalizer), so neighbouring leaves get unrelated streams.
+     */
+    static long leafSeed(long seed, long fromRound) {
+        long z = seed + fromRound * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
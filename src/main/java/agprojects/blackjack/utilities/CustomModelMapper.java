@@ -1,26 +1,68 @@
 package agprojects.blackjack.utilities;
 
+import agprojects.blackjack.models.Hand;
 import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.dto.HandDTO;
 import agprojects.blackjack.models.dto.PlayerDTO;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps players to and from their DTOs field by field - every response goes through here,
+ * so there is no reflection and no state, the mapper can be shared by all requests.
+ */
 @Component
 public class CustomModelMapper {
 
-
-    ModelMapper modelMapper = new ModelMapper();
-
     public Player convertFromPlayerDTO(PlayerDTO playerDTO){
-        return modelMapper.map(playerDTO, Player.class);
+        Player player = new Player();
+        player.setPlayerId(playerDTO.getPlayerId());
+        player.setName(playerDTO.getName());
+        player.setSeatNumber(playerDTO.getSeatNumber());
+        player.setBalance(playerDTO.getBalance());
+        player.setBet(playerDTO.getBet());
+        List<Hand> hands = new ArrayList<>();
+        if(playerDTO.getHands() != null){
+            for (HandDTO handDTO : playerDTO.getHands()) {
+                Hand hand = new Hand(handDTO.getCardsInHand().toArray(new Card[0]));
+                hand.setHandBet(handDTO.getHandBet());
+                hands.add(hand);
+            }
+        }
+        player.setHands(hands);
+        return player;
     }
 
+    /**
+     * Every hand is copied, so the response does not change with the player's next action.
+     * A seated player changes on the table's mailbox, so it is only mapped inside a command of its table.
+     */
     public PlayerDTO convertFromPlayer(Player player){
-         modelMapper = new org.modelmapper.ModelMapper();
-        return modelMapper.map(player, PlayerDTO.class);
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setPlayerId(player.getPlayerId());
+        playerDTO.setName(player.getName());
+        playerDTO.setTableId(player.getTableId());
+        playerDTO.setSeatNumber(player.getSeatNumber());
+        playerDTO.setBalance(player.getBalance());
+        playerDTO.setBet(player.getBet());
+        if(player.getHands() != null){
+            List<HandDTO> hands = new ArrayList<>(player.getHands().size());
+            for (Hand hand : player.getHands()) {
+                hands.add(new HandDTO(hand));
+            }
+            playerDTO.setHands(hands);
+        }
+        return playerDTO;
     }
 
-    public ModelMapper getModelMapper() {
-        return modelMapper;
+    public List<PlayerDTO> convertFromPlayers(List<Player> players){
+        List<PlayerDTO> playerDTOList = new ArrayList<>(players.size());
+        for (Player player : players) {
+            playerDTOList.add(convertFromPlayer(player));
+        }
+        return playerDTOList;
     }
 }
@@ -1,5 +1,6 @@
 package agprojects.blackjack.controllers;
 
+import agprojects.blackjack.models.Player;
 import agprojects.blackjack.models.dto.PlayerDTO;
 import agprojects.blackjack.services.PlayerServiceImpl;
 import agprojects.blackjack.utilities.CustomModelMapper;
@@ -11,8 +12,13 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Arrays;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,9 +40,28 @@ class PlayerControllerTest {
     @Test
     void getAllPlayers() throws Exception {
         this.mockMvc.perform(get("/api/players"))
-                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(PlayerController.NEXT_CURSOR_HEADER));
 
-        verify(playerService,times(1)).getAllPlayers();
+        verify(playerService,times(1)).getPlayersPage(0,50);
+    }
+
+    @Test
+    void getAllPlayers_ShouldSendNextCursor_WhenPageIsFull() throws Exception {
+        Player first = new Player();
+        first.setPlayerId(11);
+        first.setName("first");
+        Player second = new Player();
+        second.setPlayerId(12);
+        second.setName("second");
+
+        when(playerService.getPlayersPage(10,2)).thenReturn(Arrays.asList(first,second));
+        when(modelMapper.convertFromPlayers(Arrays.asList(first,second))).thenReturn(Arrays.asList(new PlayerDTO(),new PlayerDTO()));
+
+        this.mockMvc.perform(get("/api/players").param("after","10").param("limit","2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(PlayerController.NEXT_CURSOR_HEADER,"12"));
     }
 
     @Test
@@ -56,11 +81,18 @@ class PlayerControllerTest {
     @Test
     void getPlayerById() throws Exception {
         int playerId = 1;
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setPlayerId(playerId);
+        playerDTO.setName("name");
+        when(playerService.getPlayerById(playerId)).thenReturn(playerDTO);
 
         mockMvc.perform(get("/api/players/{playerId}", playerId).contentType(MediaType.APPLICATION_JSON)
-                .param("playerId", Integer.toString(playerId)));
+                .param("playerId", Integer.toString(playerId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("name"));
 
-        verify(modelMapper,times(1)).convertFromPlayer(playerService.getPlayerById(playerId));
+        verify(playerService,times(1)).getPlayerById(playerId);
+        verify(modelMapper,never()).convertFromPlayer(any());
     }
 
     @Test
@@ -0,0 +1,34 @@
+package agprojects.blackjack.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BasicStrategyTest {
+
+    private static int handOf(int... ranks) {
+        int state = HandState.EMPTY;
+        for (int rank : ranks) {
+            state = HandState.next(state, rank);
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("A single Ace should always be hit")
+    void recommend_ShouldHit_WithSingleAce() {
+        int hand = handOf(11);
+
+        for (int upCardRank = 2; upCardRank <= 11; upCardRank++) {
+            assertEquals(PlayerAction.HIT, BasicStrategy.recommend(hand, upCardRank, false, false, false));
+        }
+    }
+
+    @Test
+    @DisplayName("Hard 11 should be doubled with two cards and hit with more")
+    void recommend_ShouldOnlyDouble_WhenHandMayStillBeDoubled() {
+        assertEquals(PlayerAction.DOUBLE, BasicStrategy.recommend(handOf(5, 6), 6, true, false, true));
+        assertEquals(PlayerAction.HIT, BasicStrategy.recommend(handOf(2, 3, 6), 6, false, false, true));
+    }
+}
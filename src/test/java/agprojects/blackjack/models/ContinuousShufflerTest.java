@@ -0,0 +1,63 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContinuousShufflerTest {
+
+    @Test
+    @DisplayName("getCard should deal every card once before the machine is empty")
+    void getCard_ShouldDealEveryCardTypeOncePerDeck_WhenNothingIsDiscarded() {
+        ContinuousShuffler shoe = new ContinuousShuffler(1);
+        int[] cardCount = new int[CardType.values().length];
+
+        while (shoe.getNumberOfCards() > 0) {
+            cardCount[shoe.getCard().getName().ordinal()]++;
+        }
+
+        for (int count : cardCount) {
+            assertEquals(1, count);
+        }
+        assertThrows(EmptyStackException.class, shoe::getCard);
+    }
+
+    @Test
+    @DisplayName("discard should return the card to the machine")
+    void discard_ShouldPutCardBackIntoTheShoe() {
+        ContinuousShuffler shoe = new ContinuousShuffler(1);
+        Card card = shoe.getCard();
+        assertEquals(51, shoe.getNumberOfCards());
+
+        shoe.discard(card);
+
+        assertEquals(52, shoe.getNumberOfCards());
+        assertFalse(shoe.isCutCardReached());
+    }
+
+    @Test
+    @DisplayName("discard should not allow more cards than the machine holds")
+    void discard_ShouldThrow_WhenShoeIsFull() {
+        ContinuousShuffler shoe = new ContinuousShuffler(1);
+
+        assertThrows(IllegalStateException.class, () -> shoe.discard(Card.of(CardType.ACE_OF_SPADES)));
+    }
+
+    @Test
+    @DisplayName("Dealer should deal from a continuous shuffler when it replaces the shoe")
+    void replaceShoe_ShouldSwitchToContinuousMode_WithContinuousShuffler() {
+        Dealer dealer = new Dealer();
+
+        dealer.replaceShoe(new ContinuousShuffler(6));
+        Hand hand = new Hand(dealer.draw(), dealer.draw());
+        dealer.collect(hand);
+
+        assertEquals(ShoeMode.CONTINUOUS, dealer.getShoeMode());
+        assertEquals(312, dealer.getShoe().getNumberOfCards());
+    }
+}
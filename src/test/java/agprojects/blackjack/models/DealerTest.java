@@ -9,17 +9,17 @@ import static org.junit.jupiter.api.Assertions.*;
 class DealerTest {
 
 
-    Card ACE = new Card(CardType.valueOf("ACE_OF_CLUBS"));
-    Card TWO = new Card(CardType.valueOf("TWO_OF_CLUBS"));
-    Card THREE = new Card(CardType.valueOf("THREE_OF_CLUBS"));
-    Card FOUR = new Card(CardType.valueOf("FOUR_OF_CLUBS"));
-    Card FIVE = new Card(CardType.valueOf("FIVE_OF_CLUBS"));
-    Card SIX = new Card(CardType.valueOf("SIX_OF_CLUBS"));
-    Card SEVEN = new Card(CardType.valueOf("SEVEN_OF_CLUBS"));
-    Card EIGHT = new Card(CardType.valueOf("EIGHT_OF_CLUBS"));
-    Card NINE = new Card(CardType.valueOf("NINE_OF_CLUBS"));
-    Card TEN = new Card(CardType.valueOf("TEN_OF_CLUBS"));
-    Card JACK = new Card(CardType.valueOf("JACK_OF_CLUBS"));
+    Card ACE = Card.of(CardType.ACE_OF_CLUBS);
+    Card TWO = Card.of(CardType.TWO_OF_CLUBS);
+    Card THREE = Card.of(CardType.THREE_OF_CLUBS);
+    Card FOUR = Card.of(CardType.FOUR_OF_CLUBS);
+    Card FIVE = Card.of(CardType.FIVE_OF_CLUBS);
+    Card SIX = Card.of(CardType.SIX_OF_CLUBS);
+    Card SEVEN = Card.of(CardType.SEVEN_OF_CLUBS);
+    Card EIGHT = Card.of(CardType.EIGHT_OF_CLUBS);
+    Card NINE = Card.of(CardType.NINE_OF_CLUBS);
+    Card TEN = Card.of(CardType.TEN_OF_CLUBS);
+    Card JACK = Card.of(CardType.JACK_OF_CLUBS);
 
     @Test
     void mustDraw_ShouldReturnTrue_OnSoft14() {
@@ -119,4 +119,46 @@ class DealerTest {
 
         assertFalse(dealer.mustDraw());
     }
-}
\ No newline at end of file
+
+    @Test
+    void mustDraw_ShouldReturnTrue_OnSoft17_WhenDealerHitsSoft17() {
+        Dealer dealer = new Dealer(Soft17Rule.HIT);
+        Hand hand = new Hand(SIX,ACE);
+
+        dealer.setDealersHand(hand);
+
+        assertTrue(dealer.mustDraw());
+    }
+
+    @Test
+    void mustDraw_ShouldReturnFalse_OnHard17_WhenDealerHitsSoft17() {
+        Dealer dealer = new Dealer(Soft17Rule.HIT);
+        Hand hand = new Hand(TEN,SIX,ACE);
+
+        dealer.setDealersHand(hand);
+
+        assertFalse(dealer.mustDraw());
+    }
+
+    @Test
+    void mustDraw_ShouldReturnTrue_WhenNewHandIsSetAfterDealerStood() {
+        Dealer dealer = new Dealer();
+        dealer.setDealersHand(new Hand(NINE,EIGHT));
+        assertFalse(dealer.mustDraw());
+
+        dealer.setDealersHand(new Hand(TEN));
+
+        assertTrue(dealer.mustDraw());
+    }
+
+    @Test
+    void finishHand_ShouldDrawUntilSeventeenOrMore() {
+        Dealer dealer = new Dealer();
+        dealer.setDealersHand(new Hand(TWO));
+
+        Hand hand = dealer.finishHand();
+
+        assertTrue(hand.getTotal() >= 17);
+        assertFalse(dealer.mustDraw());
+    }
+}
@@ -0,0 +1,106 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.models.rng.RngType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EmptyStackException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeckTest {
+
+    @Test
+    @DisplayName("Default deck should contain 312 cards")
+    void getNumberOfCards_ShouldReturn312_WithDefaultDeck() {
+        Deck deck = new Deck();
+
+        assertEquals(312, deck.getNumberOfCards());
+    }
+
+    @Test
+    @DisplayName("Every card type should be in the shoe once per deck")
+    void getCard_ShouldDealEveryCardTypeOncePerDeck_WhenShoeIsDealtOut() {
+        Deck deck = new Deck(2, 1);
+        int[] cardCount = new int[CardType.values().length];
+
+        while (deck.getNumberOfCards() > 0) {
+            cardCount[deck.getCard().getName().ordinal()]++;
+        }
+
+        for (int count : cardCount) {
+            assertEquals(2, count);
+        }
+    }
+
+    @Test
+    @DisplayName("getCard should throw when the shoe is empty")
+    void getCard_ShouldThrowEmptyStackException_WhenShoeIsEmpty() {
+        Deck deck = new Deck(1, 1);
+        for (int i = 0; i < 52; i++) {
+            deck.getCard();
+        }
+
+        assertThrows(EmptyStackException.class, deck::getCard);
+    }
+
+    @Test
+    @DisplayName("Cut card should come out after the penetration is dealt")
+    void isCutCardReached_ShouldReturnTrue_AfterPenetrationIsDealt() {
+        Deck deck = new Deck(1, 0.5);
+        for (int i = 0; i < 25; i++) {
+            deck.getCard();
+        }
+        assertFalse(deck.isCutCardReached());
+
+        deck.getCard();
+
+        assertTrue(deck.isCutCardReached());
+    }
+
+    @Test
+    @DisplayName("Reshuffle should return all dealt cards to the shoe")
+    void reshuffle_ShouldRestoreAllCards_WhenCardsWereDealt() {
+        Deck deck = new Deck(1, 0.5);
+        for (int i = 0; i < 30; i++) {
+            deck.getCard();
+        }
+
+        deck.reshuffle();
+
+        assertEquals(52, deck.getNumberOfCards());
+        assertFalse(deck.isCutCardReached());
+    }
+
+    @Test
+    @DisplayName("Dealt cards should be shared instances")
+    void getCard_ShouldReturnSameInstance_ForSameCardType() {
+        Deck deck = new Deck(2, 1);
+        Card[] firstSeen = new Card[CardType.values().length];
+
+        while (deck.getNumberOfCards() > 0) {
+            Card card = deck.getCard();
+            int ordinal = card.getName().ordinal();
+            if (firstSeen[ordinal] == null) {
+                firstSeen[ordinal] = card;
+            } else {
+                assertSame(firstSeen[ordinal], card);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Two shoes with the same seed should deal the same cards")
+    void getCard_ShouldDealSameSequence_WithSameSeed() {
+        for (RngType rngType : RngType.values()) {
+            Deck deck = new Deck(6, 1, rngType.create(42));
+            Deck replayedDeck = new Deck(6, 1, rngType.create(deck.getSeed()));
+
+            while (deck.getNumberOfCards() > 0) {
+                assertSame(deck.getCard(), replayedDeck.getCard());
+            }
+        }
+    }
+}
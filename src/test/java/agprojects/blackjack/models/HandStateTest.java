@@ -0,0 +1,69 @@
+package agprojects.blackjack.models;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandStateTest {
+
+    private static int stateOf(int... cardRanks) {
+        int state = HandState.EMPTY;
+        for (int cardRank : cardRanks) {
+            state = HandState.next(state, cardRank);
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("next should make a soft hand with an Ace")
+    void next_ShouldReturnSoft17_WithAceAndSix() {
+        int state = stateOf(11, 6);
+
+        assertTrue(HandState.isSoft(state));
+        assertEquals(7, HandState.hardTotal(state));
+        assertEquals(17, HandState.total(state));
+    }
+
+    @Test
+    @DisplayName("next should turn a soft hand hard when the Ace has to count as 1")
+    void next_ShouldReturnHard17_WithAceSixAndTen() {
+        int state = stateOf(11, 6, 10);
+
+        assertFalse(HandState.isSoft(state));
+        assertEquals(17, HandState.total(state));
+        assertEquals(3, HandState.cardCountBucket(state));
+    }
+
+    @Test
+    @DisplayName("next should mark a two card 21 as BlackJack")
+    void next_ShouldReturnBlackJack_WithTenAndAce() {
+        assertTrue(HandState.isBlackJack(stateOf(10, 11)));
+        assertFalse(HandState.isBlackJack(stateOf(10, 5, 6)));
+    }
+
+    @Test
+    @DisplayName("next should mark pairs with their rank")
+    void next_ShouldReturnPair_WithTwoCardsOfSameValue() {
+        assertEquals(8, HandState.pairRank(stateOf(8, 8)));
+        assertEquals(11, HandState.pairRank(stateOf(11, 11)));
+        assertEquals(0, HandState.pairRank(stateOf(8, 9)));
+        assertFalse(HandState.isPair(stateOf(8, 8, 2)));
+    }
+
+    @Test
+    @DisplayName("next should mark hands over 21 as Bust and keep them busted")
+    void next_ShouldReturnBust_WhenHardTotalIsOver21() {
+        int state = stateOf(10, 5, 7);
+
+        assertTrue(HandState.isBust(state));
+        assertEquals(22, HandState.hardTotal(state));
+        assertEquals(state, HandState.next(state, 10));
+    }
+
+    @Test
+    @DisplayName("of should encode the same state as the transition table")
+    void of_ShouldMatchTransitionTable_WithSoft19() {
+        assertEquals(HandState.of(9, true, false, 3, false, false), stateOf(11, 3, 5));
+    }
+}
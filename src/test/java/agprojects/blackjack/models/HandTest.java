@@ -10,17 +10,17 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class HandTest {
 
-        Card ACE = new Card(CardType.valueOf("ACE_OF_CLUBS"));
-        Card TWO = new Card(CardType.valueOf("TWO_OF_CLUBS"));
-        Card THREE = new Card(CardType.valueOf("THREE_OF_CLUBS"));
-        Card FOUR = new Card(CardType.valueOf("FOUR_OF_CLUBS"));
-        Card FIVE = new Card(CardType.valueOf("FIVE_OF_CLUBS"));
-        Card SIX = new Card(CardType.valueOf("SIX_OF_CLUBS"));
-        Card SEVEN = new Card(CardType.valueOf("SEVEN_OF_CLUBS"));
-        Card EIGHT = new Card(CardType.valueOf("EIGHT_OF_CLUBS"));
-        Card NINE = new Card(CardType.valueOf("NINE_OF_CLUBS"));
-        Card TEN = new Card(CardType.valueOf("TEN_OF_CLUBS"));
-        Card JACK = new Card(CardType.valueOf("JACK_OF_CLUBS"));
+        Card ACE = Card.of(CardType.ACE_OF_CLUBS);
+        Card TWO = Card.of(CardType.TWO_OF_CLUBS);
+        Card THREE = Card.of(CardType.THREE_OF_CLUBS);
+        Card FOUR = Card.of(CardType.FOUR_OF_CLUBS);
+        Card FIVE = Card.of(CardType.FIVE_OF_CLUBS);
+        Card SIX = Card.of(CardType.SIX_OF_CLUBS);
+        Card SEVEN = Card.of(CardType.SEVEN_OF_CLUBS);
+        Card EIGHT = Card.of(CardType.EIGHT_OF_CLUBS);
+        Card NINE = Card.of(CardType.NINE_OF_CLUBS);
+        Card TEN = Card.of(CardType.TEN_OF_CLUBS);
+        Card JACK = Card.of(CardType.JACK_OF_CLUBS);
 
 
 
@@ -117,13 +117,54 @@ class HandTest {
     }
 
     @Test
-    @DisplayName("evaluateHand should return 22 - Bust with NineAceAceAce")
-    void evaluateHand_ShouldReturnBUST_WithNineAndThreeAces_22() {
+    @DisplayName("evaluateHand should return 12 with NineAceAceAce")
+    void evaluateHand_ShouldReturn12_WithNineAndThreeAces() {
         Hand hand = new Hand(NINE,ACE,ACE,ACE);
 
         hand.evaluateHand();
 
-        assertEquals("22 - Bust",hand.getHandValue());
+        assertEquals("12",hand.getHandValue());
+        assertFalse(hand.isBust());
+    }
+
+    @Test
+    @DisplayName("evaluateHand should count every Ace once when called repeatedly")
+    void evaluateHand_ShouldKeepTheSameValue_WhenCalledTwice() {
+        Hand hand = new Hand(ACE,FIVE);
+
+        hand.evaluateHand();
+        hand.evaluateHand();
+
+        assertEquals("6/16",hand.getHandValue());
+    }
+
+    @Test
+    @DisplayName("addCard should update the running totals")
+    void addCard_ShouldUpdateTotalAndSoftFlag_WhenCardsAreAdded() {
+        Hand hand = new Hand();
+
+        hand.addCard(ACE);
+        hand.addCard(SIX);
+        assertEquals(17,hand.getTotal());
+        assertTrue(hand.isSoft());
+
+        hand.addCard(TEN);
+        assertEquals(17,hand.getTotal());
+        assertFalse(hand.isSoft());
+        assertEquals(3,hand.getCardCount());
+    }
+
+    @Test
+    @DisplayName("split should leave one card and its value in each hand")
+    void split_ShouldRecalculateBothHands_WithEightEight() {
+        Hand hand = new Hand(EIGHT,EIGHT);
+        hand.evaluateHand();
+
+        Hand splitHand = hand.split();
+
+        assertEquals("8",hand.getHandValue());
+        assertEquals("8",splitHand.getHandValue());
+        assertFalse(hand.isSplittable());
     }
 
     @Test
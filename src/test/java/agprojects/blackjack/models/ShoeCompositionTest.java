@@ -0,0 +1,70 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShoeCompositionTest {
+
+    @Test
+    @DisplayName("A full shoe should hold 16 ten valued cards and 4 of every other rank per deck")
+    void getRemaining_ShouldMatchFullShoe_WhenNothingIsDealt() {
+        ShoeComposition composition = new Deck(2, 1).getComposition();
+
+        assertEquals(104, composition.getCardsRemaining());
+        assertEquals(32, composition.getRemaining(ShoeComposition.rankIndex(10)));
+        assertEquals(8, composition.getRemaining(ShoeComposition.rankIndex(11)));
+        assertEquals(0, composition.getRunningCount());
+    }
+
+    @Test
+    @DisplayName("Dealing the whole shoe should bring every rank and the running count back to zero")
+    void getCard_ShouldUpdateCompositionOnEveryCard_WhenShoeIsDealtOut() {
+        Deck deck = new Deck(1, 1);
+        ShoeComposition composition = deck.getComposition();
+        int expectedRunningCount = 0;
+
+        while (deck.getNumberOfCards() > 0) {
+            Card card = deck.getCard();
+            if (card.getRank() <= 6) {
+                expectedRunningCount++;
+            } else if (card.getRank() >= 10) {
+                expectedRunningCount--;
+            }
+            assertEquals(expectedRunningCount, composition.getRunningCount());
+            assertEquals(deck.getNumberOfCards(), composition.getCardsRemaining());
+        }
+
+        assertArrayEquals(new int[ShoeComposition.RANK_COUNT], composition.copyRemaining());
+    }
+
+    @Test
+    @DisplayName("Discarding into a continuous shuffler should restore the composition")
+    void discard_ShouldRestoreComposition_WithContinuousShuffler() {
+        ContinuousShuffler shoe = new ContinuousShuffler(1);
+        ShoeComposition composition = shoe.getComposition();
+        int[] fullShoe = composition.copyRemaining();
+
+        Card card = shoe.getCard();
+        shoe.discard(card);
+
+        assertArrayEquals(fullShoe, composition.copyRemaining());
+        assertEquals(0, composition.getRunningCount());
+    }
+
+    @Test
+    @DisplayName("True count should divide the running count by the decks left")
+    void getTrueCount_ShouldDivideRunningCountByDecksRemaining() {
+        ShoeComposition composition = new ShoeComposition(2);
+
+        for (int i = 0; i < 4; i++) {
+            composition.remove(Card.of(CardType.FIVE_OF_CLUBS));
+        }
+
+        assertEquals(4, composition.getRunningCount());
+        assertEquals(4 / (100 / 52.0), composition.getTrueCount(), 1e-9);
+    }
+}
@@ -0,0 +1,120 @@
+package agprojects.blackjack.models;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableTest {
+
+    private static Player newPlayer(int playerId) {
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("Player " + playerId);
+        return player;
+    }
+
+    @Test
+    @DisplayName("A seated player should take the seat and clear its bit in the free seat mask")
+    void sitPlayer_ShouldTakeSeat_WhenSeatIsFree() {
+        Table table = new Table(1, new Dealer());
+        Player player = newPlayer(1);
+
+        table.sitPlayer(5, player);
+
+        assertSame(player, table.getPlayer(5));
+        assertEquals(5, player.getSeatNumber());
+        assertEquals(1, player.getTableId());
+        assertEquals(0b01111, table.getFreeSeatMask());
+        assertEquals(1, table.getSeatsTaken());
+    }
+
+    @Test
+    @DisplayName("A taken seat should not be given to a second player")
+    void sitPlayer_ShouldThrowSEAT_TAKEN_WhenSeatIsTaken() {
+        Table table = new Table(1, new Dealer());
+        table.sitPlayer(1, newPlayer(1));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> table.sitPlayer(1, newPlayer(2)));
+
+        assertEquals(String.format(Table.SEAT_TAKEN, 1), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Seats outside of 1 to 5 should not exist")
+    void sitPlayer_ShouldThrowSEAT_NOT_FOUND_WhenSeatNumberIsOutOfRange() {
+        Table table = new Table(1, new Dealer());
+
+        assertThrows(ApiRequestException.class, () -> table.sitPlayer(0, newPlayer(1)));
+        assertThrows(ApiRequestException.class, () -> table.sitPlayer(6, newPlayer(1)));
+        assertEquals(0, table.getSeatsTaken());
+    }
+
+    @Test
+    @DisplayName("Only one of many concurrent joins should win the same seat")
+    void sitPlayer_ShouldSeatExactlyOnePlayer_WhenJoiningConcurrently() throws Exception {
+        Table table = new Table(1, new Dealer());
+        int numberOfPlayers = 16;
+        ExecutorService joiners = Executors.newFixedThreadPool(numberOfPlayers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> joins = new ArrayList<>();
+        for (int i = 1; i <= numberOfPlayers; i++) {
+            Player player = newPlayer(i);
+            joins.add(joiners.submit(() -> {
+                start.await();
+                try {
+                    table.sitPlayer(3, player);
+                    return true;
+                } catch (ApiRequestException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int seated = 0;
+        for (Future<Boolean> join : joins) {
+            if (join.get()) {
+                seated++;
+            }
+        }
+        joiners.shutdown();
+
+        assertEquals(1, seated);
+        assertEquals(1, table.getSeatsTaken());
+    }
+
+    @Test
+    @DisplayName("Standing up should free the seat for the next player")
+    void standUp_ShouldFreeSeat_WhenPlayerLeaves() {
+        Table table = new Table(1, new Dealer());
+        Player player = newPlayer(1);
+        table.sitPlayer(2, player);
+
+        table.standUp(2, player);
+
+        assertNull(table.getPlayer(2));
+        assertEquals(0, player.getTableId());
+        assertEquals(0b11111, table.getFreeSeatMask());
+        table.sitPlayer(2, newPlayer(2));
+        assertEquals(2, table.getPlayer(2).getPlayerId());
+    }
+
+    @Test
+    @DisplayName("A player should not free a seat taken by someone else")
+    void standUp_ShouldThrowSEAT_NOT_TAKEN_BY_PLAYER_WhenSeatBelongsToAnotherPlayer() {
+        Table table = new Table(1, new Dealer());
+        table.sitPlayer(2, newPlayer(1));
+
+        assertThrows(ApiRequestException.class, () -> table.standUp(2, newPlayer(2)));
+        assertEquals(1, table.getSeatsTaken());
+    }
+}
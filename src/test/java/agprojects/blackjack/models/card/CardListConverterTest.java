@@ -0,0 +1,95 @@
+package agprojects.blackjack.models.card;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardListConverterTest {
+
+    private final CardListConverter converter = new CardListConverter();
+
+    /**
+     * A list of a Ten of Spades and a Six of Diamonds, serialized with the Card class as it was before the compact
+     * encoding - the way these hands are stored in existing databases.
+     */
+    private static final String LEGACY_HAND_HEX = "aced0005737200136a6176612e7574696c2e41727261794c6973747881d21d99c7619d03000149000473697a65787000"
+            + "00000277040000000273720025616770726f6a656374732e626c61636b6a61636b2e6d6f64656c732e636172642e4361"
+            + "72649a36b40ece1099aa0200014c00046e616d6574002b4c616770726f6a656374732f626c61636b6a61636b2f6d6f64"
+            + "656c732f636172642f43617264547970653b78707e720029616770726f6a656374732e626c61636b6a61636b2e6d6f64"
+            + "656c732e636172642e436172645479706500000000000000001200007872000e6a6176612e6c616e672e456e756d0000"
+            + "000000000000120000787074000d54454e5f4f465f5350414445537371007e00027e71007e000574000f5349585f4f46"
+            + "5f4449414d4f4e445378";
+
+    private static byte[] fromHex(String hex) {
+        byte[] bytes = new byte[hex.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return bytes;
+    }
+
+    private static byte[] serialize(Serializable value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    @DisplayName("A hand should be stored as one byte per card")
+    void convertToDatabaseColumn_ShouldWriteOneBytePerCard() {
+        List<Card> cards = Arrays.asList(Card.of(CardType.ACE_OF_CLUBS), Card.of(CardType.KING_OF_HEARTS));
+
+        byte[] column = converter.convertToDatabaseColumn(cards);
+
+        assertArrayEquals(new byte[]{(byte) CardType.ACE_OF_CLUBS.ordinal(), (byte) CardType.KING_OF_HEARTS.ordinal()}, column);
+    }
+
+    @Test
+    @DisplayName("Every card should be read back as the shared instance")
+    void convertToEntityAttribute_ShouldReturnSameCards_WhenColumnWasWrittenByConverter() {
+        List<Card> cards = new ArrayList<>();
+        for (CardType cardType : CardType.values()) {
+            cards.add(Card.of(cardType));
+        }
+
+        List<Card> readCards = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(cards));
+
+        assertEquals(cards.size(), readCards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            assertSame(cards.get(i), readCards.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Hands saved as a Java serialized list should still be read")
+    void convertToEntityAttribute_ShouldReadLegacyColumn_WhenHandWasJavaSerialized() {
+        List<Card> cards = Arrays.asList(Card.of(CardType.TEN_OF_SPADES), Card.of(CardType.SIX_OF_DIAMONDS));
+        byte[] legacyColumn = fromHex(LEGACY_HAND_HEX);
+
+        List<Card> readCards = converter.convertToEntityAttribute(legacyColumn);
+
+        assertTrue(CardListConverter.isLegacy(legacyColumn));
+        assertEquals(cards, readCards);
+        assertSame(cards.get(0), readCards.get(0));
+        assertTrue(converter.convertToDatabaseColumn(readCards).length * 10 < legacyColumn.length);
+    }
+
+    @Test
+    @DisplayName("A serialized column with other classes than cards should be rejected")
+    void convertToEntityAttribute_ShouldThrow_WhenLegacyColumnContainsOtherClasses() throws IOException {
+        byte[] column = serialize(new ArrayList<>(Arrays.asList(1, 2)));
+
+        assertThrows(IllegalArgumentException.class, () -> converter.convertToEntityAttribute(column));
+    }
+}
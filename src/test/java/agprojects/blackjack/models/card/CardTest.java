@@ -0,0 +1,61 @@
+package agprojects.blackjack.models.card;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardTest {
+
+    @Test
+    @DisplayName("of should return the same instance for the same CardType")
+    void of_ShouldReturnSameInstance_ForSameCardType() {
+        assertSame(Card.of(CardType.ACE_OF_SPADES), Card.of(CardType.ACE_OF_SPADES));
+        assertSame(Card.of(CardType.ACE_OF_SPADES), Card.of(CardType.ACE_OF_SPADES.ordinal()));
+    }
+
+    @Test
+    @DisplayName("getRank and isAce should match the Rank of the CardType")
+    void getRankAndIsAce_ShouldMatchRank_ForEveryCardType() {
+        for (CardType cardType : CardType.values()) {
+            Card card = Card.of(cardType);
+
+            assertEquals(cardType.getRank().getCardRank(), card.getRank());
+            assertEquals(cardType.getRank() == Rank.ACE, card.isAce());
+        }
+    }
+
+    @Test
+    @DisplayName("Java deserialization should resolve to the shared instance")
+    void readResolve_ShouldReturnSharedInstance_WhenDeserialized() throws Exception {
+        Card card = Card.of(CardType.KING_OF_HEARTS);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(card);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertSame(card, in.readObject());
+        }
+    }
+
+    @Test
+    @DisplayName("The serial version should stay the one of the cards already stored")
+    void serialVersionUID_ShouldMatchStoredCards() {
+        assertEquals(-7334476967446537814L, ObjectStreamClass.lookup(Card.class).getSerialVersionUID());
+    }
+
+    @Test
+    @DisplayName("JSON deserialization should resolve to the shared instance")
+    void of_ShouldBeUsedByJackson_WhenDeserialized() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Card card = Card.of(CardType.TWO_OF_DIAMONDS);
+
+        String json = objectMapper.writeValueAsString(card);
+
+        assertSame(card, objectMapper.readValue(json, Card.class));
+    }
+}
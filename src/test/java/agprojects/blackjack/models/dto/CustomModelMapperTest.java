@@ -30,8 +30,8 @@ class CustomModelMapperTest {
         Hand hand = new Hand();
         hand.addCard(dealer.draw());
         hand.addCard(dealer.draw());
-        List<Hand> hands = new ArrayList<>();
-        hands.add(hand);
+        List<HandDTO> hands = new ArrayList<>();
+        hands.add(new HandDTO(hand));
         playerDTO.setHands(hands);
 
 
@@ -72,4 +72,34 @@ class CustomModelMapperTest {
         assertEquals(player.getHands().get(0).getCardsInHand().get(0).getName(), playerDTO.getHands().get(0).getCardsInHand().get(0).getName());
         assertEquals(player.getHands().get(0).getCardsInHand().get(1).getName(), playerDTO.getHands().get(0).getCardsInHand().get(1).getName());
     }
-}
\ No newline at end of file
+
+    @Test
+    void convertFromPlayerDtoToPlayer_ShouldStartWithNoHands_WhenDtoHasNoHands() {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setName("name");
+
+        Player player = modelMapper.convertFromPlayerDTO(playerDTO);
+
+        assertNotNull(player.getHands());
+        assertTrue(player.getHands().isEmpty());
+    }
+
+    @Test
+    void convertFromPlayerToPlayerDTO_ShouldCopyEveryHand_WhenPlayerKeepsPlaying() {
+        Player player = new Player();
+        player.setName("name");
+        player.setHands(new ArrayList<>());
+        player.getHands().add(new Hand());
+        player.getHands().get(0).addCard(dealer.draw());
+
+        PlayerDTO playerDTO = modelMapper.convertFromPlayer(player);
+        player.getHands().get(0).addCard(dealer.draw());
+        player.getHands().get(0).setFinished(true);
+        player.getHands().add(new Hand());
+
+        assertEquals(1, playerDTO.getHands().size());
+        assertEquals(1, playerDTO.getHands().get(0).getCardCount());
+        assertFalse(playerDTO.getHands().get(0).isFinished());
+        assertThrows(UnsupportedOperationException.class, () -> playerDTO.getHands().get(0).getCardsInHand().clear());
+    }
+}
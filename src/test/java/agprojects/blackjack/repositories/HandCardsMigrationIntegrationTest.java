@@ -0,0 +1,34 @@
+package agprojects.blackjack.repositories;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The migration runs when the application starts, so it has already run once before every test.
+ */
+@SpringBootTest
+class HandCardsMigrationIntegrationTest {
+
+    @Autowired
+    HandCardsMigration migration;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("A completed migration should be recorded once and skipped at the next startup")
+    void run_ShouldRecordMigrationOnce_WhenItRanAtStartup() {
+        assertTrue(migration.isApplied());
+
+        migration.run(null);
+
+        Integer applied = jdbcTemplate.queryForObject("select count(*) from applied_migrations where name = ?",
+                Integer.class, HandCardsMigration.MIGRATION_NAME);
+        assertEquals(1, applied);
+    }
+}
@@ -0,0 +1,72 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DealerOutcome;
+import agprojects.blackjack.models.ShoeComposition;
+import agprojects.blackjack.models.Soft17Rule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DealerOddsServiceImplTest {
+
+    private final DealerOddsServiceImpl dealerOddsService = new DealerOddsServiceImpl();
+
+    private static int[] sixDeckShoe() {
+        return new ShoeComposition(6).copyRemaining();
+    }
+
+    @Test
+    @DisplayName("Outcome probabilities should add up to 1 for every up card")
+    void getDealerOutcomes_ShouldSumToOne_ForEveryUpCard() {
+        for (int upCardRank = 2; upCardRank <= 11; upCardRank++) {
+            int[] remaining = sixDeckShoe();
+            remaining[ShoeComposition.rankIndex(upCardRank)]--;
+
+            double[] outcomes = dealerOddsService.getDealerOutcomes(upCardRank, remaining, Soft17Rule.STAND);
+
+            double sum = 0;
+            for (double outcome : outcomes) {
+                sum += outcome;
+            }
+            assertEquals(1, sum, 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Dealer should always bust on 6 when only tens are left")
+    void getDealerOutcomes_ShouldReturnBust_WithSixAndOnlyTensLeft() {
+        int[] remaining = new int[ShoeComposition.RANK_COUNT];
+        remaining[ShoeComposition.rankIndex(10)] = 10;
+
+        double[] outcomes = dealerOddsService.getDealerOutcomes(6, remaining, Soft17Rule.STAND);
+
+        assertEquals(1, outcomes[DealerOutcome.BUST.ordinal()], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Dealer should always have BlackJack on 10 when only Aces are left")
+    void getDealerOutcomes_ShouldReturnBlackJack_WithTenAndOnlyAcesLeft() {
+        int[] remaining = new int[ShoeComposition.RANK_COUNT];
+        remaining[ShoeComposition.rankIndex(11)] = 4;
+
+        double[] outcomes = dealerOddsService.getDealerOutcomes(10, remaining, Soft17Rule.STAND);
+
+        assertEquals(1, outcomes[DealerOutcome.BLACKJACK.ordinal()], 1e-9);
+    }
+
+    @Test
+    @DisplayName("Hitting soft 17 should turn the Ace Six into a 19 when only a Six and a Two are left")
+    void getDealerOutcomes_ShouldDrawOnSoft17_WhenDealerHitsSoft17() {
+        int[] remaining = new int[ShoeComposition.RANK_COUNT];
+        remaining[ShoeComposition.rankIndex(6)] = 1;
+        remaining[ShoeComposition.rankIndex(2)] = 1;
+
+        double[] standOutcomes = dealerOddsService.getDealerOutcomes(11, remaining, Soft17Rule.STAND);
+        double[] hitOutcomes = dealerOddsService.getDealerOutcomes(11, remaining, Soft17Rule.HIT);
+
+        assertEquals(0.5, standOutcomes[DealerOutcome.SEVENTEEN.ordinal()], 1e-9);
+        assertEquals(0.5, standOutcomes[DealerOutcome.NINETEEN.ordinal()], 1e-9);
+        assertEquals(1, hitOutcomes[DealerOutcome.NINETEEN.ordinal()], 1e-9);
+    }
+}
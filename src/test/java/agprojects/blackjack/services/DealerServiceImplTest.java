@@ -0,0 +1,176 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.Table;
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.models.dto.DealDTO;
+import agprojects.blackjack.services.base.PlayerService;
+import agprojects.blackjack.services.base.RoundStateService;
+import agprojects.blackjack.services.base.SettlementService;
+import agprojects.blackjack.services.base.TableRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DealerServiceImplTest {
+
+    @Mock
+    TableRegistry tableRegistry;
+
+    @Mock
+    PlayerService playerService;
+
+    @Mock
+    RoundStateService roundStateService;
+
+    @Mock
+    SettlementService settlementService;
+
+    @InjectMocks
+    DealerServiceImpl dealerService;
+
+    private final int tableId = 1;
+
+    @BeforeEach
+    void runTableCommandsDirectly() {
+        when(tableRegistry.execute(anyInt(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        when(tableRegistry.getTable(tableId)).thenReturn(new Table(tableId, new Dealer()));
+    }
+
+    private static Player playerAt(int seatNumber, String name) {
+        Player player = new Player();
+        player.setPlayerId(seatNumber);
+        player.setName(name);
+        player.setSeatNumber(seatNumber);
+        player.setBet(200);
+        player.setHands(new ArrayList<>());
+        return player;
+    }
+
+    @Test
+    @DisplayName("Players with the same name should each get their own hand, keyed by seat")
+    void deal_ShouldKeyHandsBySeat_WhenPlayersHaveTheSameName() {
+        Player first = playerAt(3, "name");
+        Player second = playerAt(1, "name");
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Arrays.asList(first, second));
+
+        DealDTO deal = dealerService.deal(tableId);
+
+        assertEquals(Arrays.asList(1, 3), new ArrayList<>(deal.getHandsBySeat().keySet()));
+        assertEquals(second.getHands().get(0).getCardsInHand(), deal.getHandsBySeat().get(1).getCardsInHand());
+        assertEquals(first.getHands().get(0).getCardsInHand(), deal.getHandsBySeat().get(3).getCardsInHand());
+        assertEquals(2, deal.getHandsBySeat().get(1).getCardCount());
+        assertEquals(1, deal.getDealersHand().getCardCount());
+
+        second.getHands().get(0).setSettled(true);
+        assertFalse(deal.getHandsBySeat().get(1).isSettled());
+    }
+
+    @Test
+    @DisplayName("A deal should update all players once, after all cards are dealt")
+    void deal_ShouldUpdatePlayersOnce_WhenAllCardsAreDealt() {
+        Player player = playerAt(1, "name");
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.singletonList(player));
+
+        dealerService.deal(tableId);
+
+        verify(roundStateService, times(1)).addNewHands(player);
+        verify(roundStateService, times(1)).updateAll(Collections.singletonList(player));
+        verify(roundStateService, never()).update(any());
+    }
+
+    @Test
+    @DisplayName("A deal at an empty table should not write anything")
+    void deal_ShouldNotUpdatePlayers_WhenTableIsEmpty() {
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.emptyList());
+
+        DealDTO deal = dealerService.deal(tableId);
+
+        assertTrue(deal.getHandsBySeat().isEmpty());
+        verify(roundStateService, never()).updateAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("A deal should not throw away finished hands the dealer has not settled")
+    void deal_ShouldThrowROUND_NOT_SETTLED_WhenAFinishedHandIsNotSettled() {
+        Player player = playerAt(1, "name");
+        Hand stoodHand = new Hand(Card.of(CardType.TEN_OF_CLUBS), Card.of(CardType.NINE_OF_CLUBS));
+        stoodHand.setFinished(true);
+        player.getHands().add(stoodHand);
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.singletonList(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> dealerService.deal(tableId));
+
+        assertEquals(String.format(DealerServiceImpl.ROUND_NOT_SETTLED, tableId), exception.getMessage());
+        assertSame(stoodHand, player.getHands().get(0));
+        verify(roundStateService, never()).updateAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("A deal should not add cards to a hand that is still being played")
+    void deal_ShouldThrowROUND_NOT_SETTLED_WhenAHandIsNotFinished() {
+        Player player = playerAt(1, "name");
+        Hand playedHand = new Hand(Card.of(CardType.TEN_OF_CLUBS), Card.of(CardType.TWO_OF_CLUBS));
+        player.getHands().add(playedHand);
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.singletonList(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> dealerService.deal(tableId));
+
+        assertEquals(String.format(DealerServiceImpl.ROUND_NOT_SETTLED, tableId), exception.getMessage());
+        assertEquals(2, playedHand.getCardCount());
+        verify(roundStateService, never()).updateAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("The dealer should not play while a player still has a hand to play")
+    void hitDealer_ShouldThrowHANDS_NOT_FINISHED_WhenAHandIsNotFinished() {
+        Player player = playerAt(1, "name");
+        player.getHands().add(new Hand(Card.of(CardType.TEN_OF_CLUBS), Card.of(CardType.TWO_OF_CLUBS)));
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.singletonList(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> dealerService.hitDealer(tableId));
+
+        assertEquals(String.format(DealerServiceImpl.HANDS_NOT_FINISHED, tableId), exception.getMessage());
+        assertEquals(0, tableRegistry.getTable(tableId).getDealer().getDealersHand().getCardCount());
+        verify(settlementService, never()).settle(any(), anyList());
+        verify(roundStateService, never()).endRound(anyInt());
+    }
+
+    @Test
+    @DisplayName("A deal should return the settled hands of the last round to the dealer")
+    void deal_ShouldCollectHands_WhenTheyAreSettled() {
+        Player player = playerAt(1, "name");
+        Hand settledHand = new Hand(Card.of(CardType.TEN_OF_CLUBS), Card.of(CardType.NINE_OF_CLUBS));
+        settledHand.setFinished(true);
+        settledHand.setSettled(true);
+        player.getHands().add(settledHand);
+        when(playerService.getPlayersAtTable(tableId)).thenReturn(Collections.singletonList(player));
+
+        dealerService.deal(tableId);
+
+        assertEquals(1, player.getHands().size());
+        assertNotSame(settledHand, player.getHands().get(0));
+        assertEquals(2, player.getHands().get(0).getCardCount());
+    }
+}
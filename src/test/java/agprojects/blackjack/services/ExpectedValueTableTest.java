@@ -0,0 +1,85 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.HandState;
+import agprojects.blackjack.models.ShoeComposition;
+import agprojects.blackjack.models.Soft17Rule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpectedValueTableTest {
+
+    private static ExpectedValueTable sixDeckTable(int upCardRank, int... playerRanks) {
+        int[] remaining = new ShoeComposition(6).copyRemaining();
+        remaining[ShoeComposition.rankIndex(upCardRank)]--;
+        for (int playerRank : playerRanks) {
+            remaining[ShoeComposition.rankIndex(playerRank)]--;
+        }
+        double[] dealerOutcomes = new DealerOddsServiceImpl().getDealerOutcomes(upCardRank, remaining, Soft17Rule.STAND);
+        return new ExpectedValueTable(dealerOutcomes, remaining);
+    }
+
+    private static int handOf(int... ranks) {
+        int state = HandState.EMPTY;
+        for (int rank : ranks) {
+            state = HandState.next(state, rank);
+        }
+        return state;
+    }
+
+    @Test
+    @DisplayName("Hard 11 against a 6 should be worth doubling")
+    void doubleDown_ShouldBeBestDecision_WithHard11AgainstSix() {
+        ExpectedValueTable table = sixDeckTable(6, 5, 6);
+        int hand = handOf(5, 6);
+
+        assertTrue(table.doubleDown(hand) > table.hit(hand, false));
+        assertTrue(table.doubleDown(hand) > table.stand(hand, false));
+    }
+
+    @Test
+    @DisplayName("Hard 16 against a 10 should be worth surrendering")
+    void surrender_ShouldBeBestDecision_WithHard16AgainstTen() {
+        ExpectedValueTable table = sixDeckTable(10, 10, 6);
+        int hand = handOf(10, 6);
+
+        assertTrue(table.surrender() > table.hit(hand, false));
+        assertTrue(table.surrender() > table.stand(hand, false));
+    }
+
+    @Test
+    @DisplayName("A pair of 8s against a 7 should be worth splitting")
+    void split_ShouldBeBestDecision_WithPairOfEightsAgainstSeven() {
+        ExpectedValueTable table = sixDeckTable(7, 8, 8);
+        int hand = handOf(8, 8);
+
+        assertTrue(table.split(hand) > table.hit(hand, false));
+        assertTrue(table.split(hand) > table.stand(hand, false));
+    }
+
+    @Test
+    @DisplayName("Hard 20 should be worth standing on")
+    void stand_ShouldBeBestDecision_WithHard20() {
+        for (int upCardRank = 2; upCardRank <= 11; upCardRank++) {
+            ExpectedValueTable table = sixDeckTable(upCardRank, 10, 10);
+            int hand = handOf(10, 10);
+
+            assertTrue(table.stand(hand, false) > table.hit(hand, false));
+            assertTrue(table.stand(hand, false) > table.split(hand));
+        }
+    }
+
+    @Test
+    @DisplayName("A two card 21 after a split should be valued as a plain 21")
+    void stand_ShouldNotPayBlackJack_AfterSplit() {
+        ExpectedValueTable table = sixDeckTable(6, 10, 11);
+        int blackJack = handOf(10, 11);
+        int splitTen = handOf(10);
+
+        assertEquals(1.5, table.stand(blackJack, false), 1e-9);
+        assertTrue(table.stand(blackJack, true) < 1);
+        assertEquals(table.stand(handOf(10, 5, 6), false), table.stand(blackJack, true), 1e-9);
+        assertTrue(table.hit(splitTen, true) < table.hit(splitTen, false));
+    }
+}
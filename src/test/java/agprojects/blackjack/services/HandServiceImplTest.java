@@ -6,13 +6,12 @@ import agprojects.blackjack.models.Hand;
 import agprojects.blackjack.models.Player;
 import agprojects.blackjack.models.card.Card;
 import agprojects.blackjack.models.card.CardType;
-import org.junit.Before;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
@@ -24,21 +23,19 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class HandServiceImplTest {
 
-    Card ACE = new Card(CardType.valueOf("ACE_OF_CLUBS"));
-    Card FIVE = new Card(CardType.valueOf("FIVE_OF_CLUBS"));
-    Card SIX = new Card(CardType.valueOf("SIX_OF_CLUBS"));
-    Card TEN = new Card(CardType.valueOf("TEN_OF_CLUBS"));
+    Card ACE = Card.of(CardType.ACE_OF_CLUBS);
+    Card FIVE = Card.of(CardType.FIVE_OF_CLUBS);
+    Card SIX = Card.of(CardType.SIX_OF_CLUBS);
+    Card TEN = Card.of(CardType.TEN_OF_CLUBS);
 
     @Mock
     Dealer dealer;
 
-    @InjectMocks
-    private static final HandServiceImpl handService = new HandServiceImpl();
+    @Spy
+    WalletServiceImpl walletService = new WalletServiceImpl();
 
-    @Before
-    public void createMocks() {
-        MockitoAnnotations.initMocks(this);
-    }
+    @InjectMocks
+    HandServiceImpl handService;
 
     @Test
     @DisplayName("Hit should work properly when hand is not finished")
@@ -55,7 +52,7 @@ class HandServiceImplTest {
 
         when(dealer.draw()).thenReturn(SIX);
 
-        handService.hit(player,handId);
+        handService.hit(dealer,player,handId);
 
         assertEquals(SIX,player.getHands().get(0).getCardsInHand().get(2));
         assertEquals("21",player.getHands().get(0).getHandValue());
@@ -75,7 +72,7 @@ class HandServiceImplTest {
         player.setName("name");
         player.setHands(handList);
 
-        Exception exception = assertThrows(ApiRequestException.class, () -> handService.hit(player,handId));
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.hit(dealer,player,handId));
 
         String expectedMessage = String.format(HandServiceImpl.HAND_IS_FINISHED,handId);
         String actualMessage = exception.getMessage();
@@ -98,7 +95,7 @@ class HandServiceImplTest {
         player.setName("name");
         player.setHands(handList);
 
-        Exception exception = assertThrows(ApiRequestException.class, () -> handService.hit(player,2));
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.hit(dealer,player,2));
 
         String expectedMessage = String.format(HandServiceImpl.HAND_NOT_FOUND,2);
         String actualMessage = exception.getMessage();
@@ -107,17 +104,86 @@ class HandServiceImplTest {
 
     }
 
-//    @Test
-//    void doubleDown() {
-//    }
-//
-//    @Test
-//    void split() {
-//    }
+    @Test
+    @DisplayName("Double down should double the hand's bet and take it from the balance")
+    void doubleDown_ShouldDoubleTheHandBet_WhenBalanceIsEnough() {
+        int handId = 1;
+        Hand hand = new Hand(FIVE,SIX);
+        hand.setHandId(handId);
+        hand.setHandBet(50);
+        List<Hand> handList = new ArrayList<>();
+        handList.add(hand);
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setBalance(100);
+        player.setBet(50);
+        player.setHands(handList);
+
+        when(dealer.draw()).thenReturn(TEN);
+
+        long stake = handService.doubleDown(dealer,player,handId);
+
+        assertEquals(50,stake);
+        assertEquals(100,hand.getHandBet());
+        assertEquals(100,player.getBet());
+        assertEquals(50,player.getBalance());
+        assertTrue(hand.isFinished());
+    }
+
+    @Test
+    @DisplayName("A hand with a third card should not be doubled")
+    void doubleDown_ShouldThrowHAND_NOT_DOUBLEABLE_WhenHandHasMoreThanTwoCards() {
+        int handId = 1;
+        Hand hand = new Hand(FIVE,SIX);
+        hand.addCard(FIVE);
+        hand.setHandId(handId);
+        hand.setHandBet(50);
+        List<Hand> handList = new ArrayList<>();
+        handList.add(hand);
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setBalance(100);
+        player.setBet(50);
+        player.setHands(handList);
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.doubleDown(dealer,player,handId));
+
+        assertEquals(String.format(HandServiceImpl.HAND_NOT_DOUBLEABLE,handId), exception.getMessage());
+        assertEquals(50,hand.getHandBet());
+        assertEquals(100,player.getBalance());
+        assertFalse(hand.isFinished());
+    }
+
+    @Test
+    @DisplayName("Split should place the same bet on the new hand")
+    void split_ShouldChargeTheHandBetForTheNewHand_WhenHandIsSplittable() {
+        int handId = 1;
+        Hand hand = new Hand(TEN,TEN);
+        hand.setHandId(handId);
+        hand.setHandBet(50);
+        List<Hand> handList = new ArrayList<>();
+        handList.add(hand);
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setBalance(100);
+        player.setBet(50);
+        player.setHands(handList);
+
+        long stake = handService.split(player,handId);
+
+        assertEquals(50,stake);
+        assertEquals(2,player.getHands().size());
+        assertEquals(50,player.getHands().get(1).getHandBet());
+        assertEquals(100,player.getBet());
+        assertEquals(50,player.getBalance());
+    }
 
     @Test
-    @DisplayName("Surrender should mark the hand as finished and adjust player's balance")
-    void surrender_ShouldSetHandIsFinishedToTrueAndReturnHalfTheBetToPlayersBalance() {
+    @DisplayName("Surrender should mark the hand as surrendered and leave the refund to the settlement")
+    void surrender_ShouldSetHandIsFinishedAndIsSurrenderedToTrue_WhenDealersFirstCardIsNotAnAce() {
         int handId = 1;
         Hand hand = new Hand(TEN,FIVE);
         Hand dealersHand = new Hand(TEN,FIVE);
@@ -132,10 +198,11 @@ class HandServiceImplTest {
         player.setHands(handList);
 
         when(dealer.getDealersHand()).thenReturn(dealersHand);
-        handService.surrender(player,handId);
+        handService.surrender(dealer,player,handId);
 
         assertTrue(player.getHands().get(0).isFinished());
-        assertEquals(125,player.getBalance());
+        assertTrue(player.getHands().get(0).isSurrendered());
+        assertEquals(100,player.getBalance());
     }
 
     @Test
@@ -156,7 +223,7 @@ class HandServiceImplTest {
 
         when(dealer.getDealersHand()).thenReturn(dealersHand);
 
-        Exception exception = assertThrows(ApiRequestException.class, () -> handService.surrender(player,handId));
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.surrender(dealer,player,handId));
 
         String expectedMessage = HandServiceImpl.CANNOT_SURRENDER_AGAINST_ACE;
         String actualMessage = exception.getMessage();
@@ -164,6 +231,49 @@ class HandServiceImplTest {
         assertTrue(expectedMessage.contains(actualMessage));
     }
 
+    @Test
+    @DisplayName("A hand with a third card should not be surrendered")
+    void surrender_ShouldThrowHAND_NOT_SURRENDERABLE_WhenHandHasMoreThanTwoCards() {
+        int handId = 1;
+        Hand hand = new Hand(FIVE,SIX);
+        hand.addCard(FIVE);
+        hand.setHandId(handId);
+        List<Hand> handList = new ArrayList<>();
+        handList.add(hand);
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setHands(handList);
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.surrender(dealer,player,handId));
+
+        assertEquals(String.format(HandServiceImpl.HAND_NOT_SURRENDERABLE,handId), exception.getMessage());
+        assertFalse(hand.isSurrendered());
+    }
+
+    @Test
+    @DisplayName("A split hand should not be surrendered")
+    void surrender_ShouldThrowHAND_NOT_SURRENDERABLE_WhenHandWasSplit() {
+        int handId = 1;
+        Hand hand = new Hand(TEN,TEN);
+        hand.setHandId(handId);
+        List<Hand> handList = new ArrayList<>();
+        handList.add(hand);
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setHands(handList);
+        Hand splitHand = hand.split();
+        splitHand.setHandId(2);
+        handList.add(splitHand);
+        hand.addCard(FIVE);
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> handService.surrender(dealer,player,handId));
+
+        assertEquals(String.format(HandServiceImpl.HAND_NOT_SURRENDERABLE,handId), exception.getMessage());
+        assertFalse(hand.isSurrendered());
+    }
+
     @Test
     @DisplayName("Stand should mark the hand as finished")
     void stand_ShouldSetHandIsFinishedToTrue_WhenCalled() {
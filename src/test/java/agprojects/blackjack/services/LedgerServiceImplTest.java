@@ -0,0 +1,100 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.LedgerEntry;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.repositories.LedgerEntryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerServiceImplTest {
+
+    @Mock
+    LedgerEntryRepository ledgerEntryRepository;
+
+    @InjectMocks
+    LedgerServiceImpl ledgerService;
+
+    private static Player playerWithBalance(long balance) {
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setBalance(balance);
+        return player;
+    }
+
+    @Test
+    @DisplayName("Recorded changes should only be written when the ledger is flushed")
+    void flush_ShouldWriteRecordedEntries_WithTheBalanceAfterTheChange() {
+        ledgerService.record(playerWithBalance(1000), LedgerEntryType.CREDIT, 1000);
+        ledgerService.record(playerWithBalance(800), LedgerEntryType.BET, -200);
+        verifyNoInteractions(ledgerEntryRepository);
+        List<List<LedgerEntry>> batches = new ArrayList<>();
+        when(ledgerEntryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batches.add(new ArrayList<>(invocation.<List<LedgerEntry>>getArgument(0)));
+            return invocation.getArgument(0);
+        });
+
+        int written = ledgerService.flush();
+
+        assertEquals(2, written);
+        assertEquals(1, batches.size());
+        LedgerEntry bet = batches.get(0).get(1);
+        assertEquals(LedgerEntryType.BET, bet.getType());
+        assertEquals(-200, bet.getAmount());
+        assertEquals(800, bet.getBalanceAfter());
+    }
+
+    @Test
+    @DisplayName("A flush should write at most batch size entries per commit")
+    void flush_ShouldSplitEntriesIntoBatches_WhenMoreThanBatchSizeAreQueued() {
+        ledgerService.batchSize = 2;
+        for (int i = 1; i <= 5; i++) {
+            ledgerService.record(playerWithBalance(i * 100), LedgerEntryType.CREDIT, 100);
+        }
+
+        int written = ledgerService.flush();
+
+        assertEquals(5, written);
+        verify(ledgerEntryRepository, times(3)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Entries of a failed batch should be written by the next flush")
+    void flush_ShouldKeepEntries_WhenBatchFails() {
+        ledgerService.record(playerWithBalance(100), LedgerEntryType.CREDIT, 100);
+        List<LedgerEntry> written = new ArrayList<>();
+        when(ledgerEntryRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("database is down"))
+                .thenAnswer(invocation -> {
+                    written.addAll(invocation.<List<LedgerEntry>>getArgument(0));
+                    return invocation.getArgument(0);
+                });
+
+        assertThrows(IllegalStateException.class, () -> ledgerService.flush());
+        ledgerService.flush();
+
+        assertEquals(1, written.size());
+        assertEquals(100, written.get(0).getAmount());
+    }
+
+    @Test
+    @DisplayName("A change that does not move money should not be recorded")
+    void record_ShouldSkipEntry_WhenAmountIsZero() {
+        ledgerService.record(playerWithBalance(100), LedgerEntryType.BET, 0);
+
+        assertEquals(0, ledgerService.flush());
+    }
+}
@@ -0,0 +1,80 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.dto.RetryStatsDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticRetryTest {
+
+    private OptimisticRetry optimisticRetry;
+
+    @BeforeEach
+    void setUp() {
+        optimisticRetry = new OptimisticRetry();
+        optimisticRetry.transactionTemplate = new TransactionTemplate() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                return action.doInTransaction(null);
+            }
+        };
+        optimisticRetry.maxAttempts = 3;
+        optimisticRetry.initialBackoffMillis = 1;
+        optimisticRetry.maxBackoffMillis = 2;
+    }
+
+    @Test
+    @DisplayName("A conflicting update should be run again until it succeeds")
+    void execute_ShouldRetry_WhenUpdateConflicts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = optimisticRetry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("stale player");
+            }
+            return "saved";
+        });
+
+        assertEquals("saved", result);
+        assertEquals(3, attempts.get());
+        RetryStatsDTO stats = optimisticRetry.getStats();
+        assertEquals(2, stats.getConflicts());
+        assertEquals(2, stats.getRetries());
+        assertEquals(0, stats.getExhausted());
+    }
+
+    @Test
+    @DisplayName("The conflict should reach the caller once every attempt conflicted")
+    void execute_ShouldThrowOptimisticLockingFailure_WhenAllAttemptsConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale player");
+        }));
+
+        assertEquals(3, attempts.get());
+        assertEquals(1, optimisticRetry.getStats().getExhausted());
+    }
+
+    @Test
+    @DisplayName("Other exceptions should not be retried")
+    void execute_ShouldNotRetry_WhenUpdateFailsForAnotherReason() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> optimisticRetry.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("not enough balance");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, optimisticRetry.getStats().getConflicts());
+    }
+}
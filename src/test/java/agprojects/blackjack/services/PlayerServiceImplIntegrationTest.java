@@ -0,0 +1,59 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.services.base.PlayerService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the player actions through the real table registry, so every command runs on a table's mailbox
+ * in its own transaction, and copies the returned players before that transaction has ended.
+ */
+@SpringBootTest(properties = "blackjack.durability.mode=PER_ACTION")
+class PlayerServiceImplIntegrationTest {
+
+    private static final int TABLE_ID = 1;
+
+    @Autowired
+    PlayerService playerService;
+
+    private int playerId;
+
+    @BeforeEach
+    void createPlayer() {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setName("name");
+        playerDTO.setBalance(100_000);
+        playerId = playerService.createNewPlayer(playerDTO).getPlayerId();
+    }
+
+    @AfterEach
+    void leaveTable() {
+        if (playerService.getPlayerById(playerId).getTableId() == TABLE_ID) {
+            playerService.leaveTable(TABLE_ID, playerId);
+        }
+    }
+
+    @Test
+    @DisplayName("Players returned by table commands should be copied with their hands on the table's mailbox")
+    void seatPlayer_ShouldReturnPlayerWithLoadedHands_WhenCommandRanOnTheMailbox() {
+        PlayerDTO seatedDTO = playerService.seatPlayer(TABLE_ID, playerId, 1);
+
+        PlayerDTO bettingDTO = playerService.placeBet(playerId, 200);
+
+        PlayerDTO readDTO = playerService.getPlayerById(playerId);
+
+        assertEquals(1, seatedDTO.getSeatNumber());
+        assertEquals(TABLE_ID, seatedDTO.getTableId());
+        assertTrue(seatedDTO.getHands().isEmpty());
+        assertEquals(200, bettingDTO.getBet());
+        assertEquals(200, readDTO.getBet());
+        assertTrue(readDTO.getHands().isEmpty());
+    }
+}
@@ -1,26 +1,38 @@
 package agprojects.blackjack.services;
 
 import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.Dealer;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.LedgerEntryType;
 import agprojects.blackjack.models.Player;
 import agprojects.blackjack.models.Table;
 import agprojects.blackjack.models.dto.PlayerDTO;
+import agprojects.blackjack.repositories.HandRepository;
 import agprojects.blackjack.repositories.PlayerRepository;
 import agprojects.blackjack.services.base.HandService;
+import agprojects.blackjack.services.base.LedgerService;
+import agprojects.blackjack.services.base.TableRegistry;
 import agprojects.blackjack.utilities.CustomModelMapper;
 import org.assertj.core.util.Lists;
 import org.junit.Assert;
 import org.junit.Before;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,14 +42,35 @@ class PlayerServiceImplTest {
     private PlayerRepository playerRepository;
 
     @Mock
-    CustomModelMapper modelMapper;
+    HandService handService;
 
     @Mock
-    HandService handService;
+    TableRegistry tableRegistry;
 
     @Mock
     Table table;
 
+    @Mock
+    Dealer dealer;
+
+    @Mock
+    LedgerService ledgerService;
+
+    @Mock
+    HandRepository handRepository;
+
+    @Spy
+    OptimisticRetry optimisticRetry = new OptimisticRetry();
+
+    @Spy
+    WalletServiceImpl walletService = new WalletServiceImpl();
+
+    @Spy
+    RoundStateServiceImpl roundStateService = new RoundStateServiceImpl();
+
+    @Spy
+    CustomModelMapper modelMapper = new CustomModelMapper();
+
     @InjectMocks
     private static final PlayerServiceImpl playerService = new PlayerServiceImpl();
 
@@ -46,20 +79,46 @@ class PlayerServiceImplTest {
         MockitoAnnotations.initMocks(this);
     }
 
-    @Test
-    void createNewPlayer_ShouldCallPlayerRepositorySaveOnce_WithTheCreatedPlayerFromModelMapper() {
+    @BeforeEach
+    void runTableCommandsDirectly() {
+        lenient().when(tableRegistry.execute(anyInt(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        roundStateService.playerRepository = playerRepository;
+        roundStateService.handRepository = handRepository;
+    }
 
+    @Test
+    void createNewPlayer_ShouldCreditTheOpeningBalance_AndIgnoreTheOtherFieldsOfTheRequest() {
         PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setPlayerId(42);
+        playerDTO.setName("name");
+        playerDTO.setBalance(1000);
+        playerDTO.setBet(500);
+        playerDTO.setSeatNumber(3);
+        playerDTO.setHands(Lists.newArrayList(new Hand()));
 
-        Player player = new Player();
-        player.setPlayerId(1);
-        player.setName("name");
+        Player player = playerService.createNewPlayer(playerDTO);
+
+        verify(playerRepository,times(1)).save(player);
+        verify(walletService,times(1)).credit(player,1000);
+        verify(ledgerService,times(1)).record(player, LedgerEntryType.CREDIT, 1000);
+        assertEquals("name",player.getName());
+        assertEquals(0,player.getPlayerId());
+        assertEquals(0,player.getBet());
+        assertEquals(0,player.getSeatNumber());
+        assertTrue(player.getHands().isEmpty());
+        assertEquals(1000,player.getBalance());
+    }
 
-        when(modelMapper.convertFromPlayerDTO(playerDTO)).thenReturn(player);
+    @Test
+    void createNewPlayer_ShouldThrowCANNOT_ADD_NEGATIVE_BALANCE_WhenOpeningBalanceIsNegative() {
+        PlayerDTO playerDTO = new PlayerDTO();
+        playerDTO.setName("name");
+        playerDTO.setBalance(-1);
 
-        playerService.createNewPlayer(playerDTO);
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.createNewPlayer(playerDTO));
 
-        verify(playerRepository,times(1)).save(player);
+        assertEquals(String.format(PlayerServiceImpl.CANNOT_ADD_NEGATIVE_BALANCE,-1), exception.getMessage());
+        verify(playerRepository,never()).save(any());
     }
 
     @Test
@@ -72,9 +131,10 @@ class PlayerServiceImplTest {
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        Player playerResult = playerService.getPlayerById(playerId);
+        PlayerDTO playerResult = playerService.getPlayerById(playerId);
 
-        Assert.assertEquals(player,playerResult);
+        Assert.assertEquals(player.getPlayerId(),playerResult.getPlayerId());
+        Assert.assertEquals(player.getName(),playerResult.getName());
     }
 
     @Test
@@ -100,9 +160,32 @@ class PlayerServiceImplTest {
         verify(playerRepository,times(1)).findAll();
     }
 
+    @Test
+    void getPlayersPage_ShouldLoadThePageWithItsHandsInOneQuery_WhenPlayersAreAfterTheCursor() {
+        Player player = new Player();
+        player.setPlayerId(11);
+        player.setName("name");
+        player.setHands(Lists.newArrayList(new Hand()));
+
+        when(playerRepository.findPlayerIdsAfter(eq(10),any())).thenReturn(Lists.newArrayList(11));
+        when(playerRepository.findWithHandsByPlayerIdIn(Lists.newArrayList(11))).thenReturn(Lists.newArrayList(player));
+
+        assertEquals(Lists.newArrayList(player),playerService.getPlayersPage(10,2));
+        verify(playerRepository,never()).findAll();
+    }
+
+    @Test
+    void getPlayersPage_ShouldThrowINVALID_PAGE_SIZE_WhenLimitIsTooLarge() {
+        Exception exception = assertThrows(ApiRequestException.class,
+                () -> playerService.getPlayersPage(0,PlayerServiceImpl.MAX_PAGE_SIZE + 1));
+
+        assertEquals(String.format(PlayerServiceImpl.INVALID_PAGE_SIZE,PlayerServiceImpl.MAX_PAGE_SIZE), exception.getMessage());
+        verify(playerRepository,never()).findPlayerIdsAfter(anyInt(),any());
+    }
+
     @Test
     void placeBet_ShouldSetPlayerBetCorrect_WhenPlayerHasEnoughBalance() {
-        double playerBet = 225.0;
+        long playerBet = 225;
         int playerId = 1;
         Player player = new Player();
         player.setPlayerId(1);
@@ -111,15 +194,86 @@ class PlayerServiceImplTest {
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        Player resultPlayer = playerService.placeBet(playerId,playerBet);
+        PlayerDTO resultPlayer = playerService.placeBet(playerId,playerBet);
 
+        verify(optimisticRetry,times(1)).execute(any());
         verify(playerRepository,times(1)).save(player);
+        verify(ledgerService,times(1)).record(player, LedgerEntryType.BET, -playerBet);
+        assertEquals(playerBet,resultPlayer.getBet());
+        assertEquals(0,resultPlayer.getBalance());
+    }
+
+    @Test
+    void placeBet_ShouldPlaceTheBetOnTheTable_WhenPlayerIsSeated() {
+        long playerBet = 200;
+        int tableId = 1;
+        int playerId = 1;
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("name");
+        player.setBalance(500);
+        player.setTableId(tableId);
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        PlayerDTO resultPlayer = playerService.placeBet(playerId,playerBet);
+
+        verify(tableRegistry,times(1)).execute(eq(tableId),any());
+        verify(optimisticRetry,never()).execute(any());
+        verify(roundStateService,times(1)).update(player);
         assertEquals(playerBet,resultPlayer.getBet());
+        assertEquals(300,resultPlayer.getBalance());
+    }
+
+    @Test
+    void placeBet_ShouldThrowBET_ALREADY_PLACED_WhenPlayerHasABetInPlay() {
+        int tableId = 1;
+        int playerId = 1;
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("name");
+        player.setBalance(500);
+        player.setBet(200);
+        player.setTableId(tableId);
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.placeBet(playerId,100));
+
+        assertEquals(String.format(PlayerServiceImpl.BET_ALREADY_PLACED,playerId), exception.getMessage());
+        verify(walletService,never()).tryReserve(any(),anyLong());
+        assertEquals(200,player.getBet());
+    }
+
+    @Test
+    void placeBet_ShouldThrowBET_ALREADY_PLACED_WhenPlayerHasAHandThatIsNotSettled() {
+        int playerId = 1;
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("name");
+        player.setBalance(500);
+        player.setHands(Lists.newArrayList(new Hand()));
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.placeBet(playerId,100));
+
+        assertEquals(String.format(PlayerServiceImpl.BET_ALREADY_PLACED,playerId), exception.getMessage());
+        verify(walletService,never()).tryReserve(any(),anyLong());
+        verify(ledgerService,never()).record(any(),any(),anyLong());
+    }
+
+    @Test
+    void placeBet_ShouldThrowBET_NOT_POSITIVE_WhenBetIsNegative() {
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.placeBet(1,-500));
+
+        assertEquals(String.format(PlayerServiceImpl.BET_NOT_POSITIVE,-500), exception.getMessage());
+        verify(walletService,never()).tryReserve(any(),anyLong());
     }
 
     @Test
     void placeBet_ShouldThrowNOT_ENOUGH_BALANCE_WhenPlayerHasNotEnoughBalance() {
-        double playerBet = 225.0;
+        long playerBet = 225;
         int playerId = 1;
         Player player = new Player();
         player.setPlayerId(1);
@@ -152,7 +306,8 @@ class PlayerServiceImplTest {
 
         Player resultPlayer = playerService.addBalanceToPlayer(playerId,playerBalance);
 
-        verify(playerRepository,times(1)).save(player);
+        verify(playerRepository,never()).save(player);
+        verify(ledgerService,times(1)).record(player, LedgerEntryType.CREDIT, playerBalance);
         assertEquals(playerCurrentBalance+playerBalance,resultPlayer.getBalance());
     }
 
@@ -178,6 +333,7 @@ class PlayerServiceImplTest {
 
     @Test
     void seatPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int playerSeat = 1;
         Player player = new Player();
@@ -185,58 +341,114 @@ class PlayerServiceImplTest {
         player.setName("name");
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
         when(table.sitPlayer(playerSeat,player)).thenReturn("Player " + player.getName() + " has been seated successfully");
 
-        playerService.seatPlayer(playerId,playerSeat);
+        playerService.seatPlayer(tableId,playerId,playerSeat);
 
         verify(table,times(1)).sitPlayer(playerSeat,player);
         verify(playerRepository,times(1)).save(player);
     }
 
+    @Test
+    void leaveTable_ShouldFreeTheSeatAndReturnTheHands_WhenAllHandsAreSettled() {
+        int tableId = 1;
+        int playerId = 1;
+        Hand hand = new Hand();
+        hand.setSettled(true);
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("name");
+        player.setTableId(tableId);
+        player.setSeatNumber(2);
+        player.setHands(Lists.newArrayList(hand));
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
+
+        playerService.leaveTable(tableId,playerId);
+
+        verify(dealer,times(1)).collect(hand);
+        verify(table,times(1)).standUp(2,player);
+        verify(playerRepository,times(1)).save(player);
+        assertTrue(player.getHands().isEmpty());
+    }
+
+    @Test
+    void leaveTable_ShouldThrowPLAYER_IN_ROUND_WhenAHandIsNotSettled() {
+        int tableId = 1;
+        int playerId = 1;
+        Player player = new Player();
+        player.setPlayerId(playerId);
+        player.setName("name");
+        player.setTableId(tableId);
+        player.setHands(Lists.newArrayList(new Hand()));
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.leaveTable(tableId,playerId));
+
+        assertEquals(String.format(PlayerServiceImpl.PLAYER_IN_ROUND,playerId), exception.getMessage());
+        verify(playerRepository,never()).save(player);
+    }
+
     @Test
     void hit_ShouldCallHandServiceHitAndPlayerRepositorySaveOnce_WithTheCorrectPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
 
-        playerService.hit(playerId,handId);
+        playerService.hit(tableId,playerId,handId);
 
-        verify(handService,times(1)).hit(player,handId);
+        verify(handService,times(1)).hit(dealer,player,handId);
         verify(playerRepository,times(1)).save(player);
 
     }
 
     @Test
     void doubleDownShouldCallHandServiceDoubleAndPlayerRepositorySaveOnce_WithTheCorrectPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
+        when(handService.doubleDown(dealer,player,handId)).thenReturn(200L);
 
-        playerService.doubleDown(playerId,handId);
+        playerService.doubleDown(tableId,playerId,handId);
 
-        verify(handService,times(1)).doubleDown(player,handId);
+        verify(handService,times(1)).doubleDown(dealer,player,handId);
         verify(playerRepository,times(1)).save(player);
+        verify(ledgerService,times(1)).record(player, LedgerEntryType.BET, -200L);
     }
 
     @Test
     void stand_ShouldCallHandServiceStandAndPlayerRepositorySaveOnce_WithTheCorrectPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        playerService.stand(playerId,handId);
+        playerService.stand(tableId,playerId,handId);
 
         verify(handService,times(1)).stand(player,handId);
         verify(playerRepository,times(1)).save(player);
@@ -244,80 +456,98 @@ class PlayerServiceImplTest {
 
     @Test
     void split_ShouldCallHandServiceSplitAndPlayerRepositorySaveOnce_WithTheCorrectPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(handService.split(player,handId)).thenReturn(200L);
 
-        playerService.split(playerId,handId);
+        playerService.split(tableId,playerId,handId);
 
         verify(handService,times(1)).split(player,handId);
         verify(playerRepository,times(1)).save(player);
+        verify(ledgerService,times(1)).record(player, LedgerEntryType.BET, -200L);
     }
 
     @Test
     void surrender_ShouldCallHandServiceSurrenderAndPlayerRepositorySaveOnce_WithTheCorrectPlayer() {
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
 
-        playerService.surrender(playerId,handId);
+        playerService.surrender(tableId,playerId,handId);
 
-        verify(handService,times(1)).surrender(player,handId);
+        verify(handService,times(1)).surrender(dealer,player,handId);
         verify(playerRepository,times(1)).save(player);
     }
 
     @Test
     void executeAction_ShouldCallPlayerServiceHit_WithActionHit() {
         String action = "hit";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
 
-        playerService.executeAction(action,playerId,handId);
+        playerService.executeAction(action,tableId,playerId,handId);
 
-        verify(handService,times(1)).hit(player,handId);
+        verify(handService,times(1)).hit(dealer,player,handId);
     }
 
     @Test
     void executeAction_ShouldCallPlayerServiceDouble_WithActionDouble() {
         String action = "double";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
 
-        playerService.executeAction(action,playerId,handId);
+        playerService.executeAction(action,tableId,playerId,handId);
 
-        verify(handService,times(1)).doubleDown(player,handId);
+        verify(handService,times(1)).doubleDown(dealer,player,handId);
     }
 
     @Test
     void executeAction_ShouldCallPlayerServiceSplit_WithActionSplit() {
         String action = "split";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        playerService.executeAction(action,playerId,handId);
+        playerService.executeAction(action,tableId,playerId,handId);
 
         verify(handService,times(1)).split(player,handId);
     }
@@ -325,15 +555,17 @@ class PlayerServiceImplTest {
     @Test
     void executeAction_ShouldCallPlayerServiceStand_WithActionStand() {
         String action = "stand";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
 
-        playerService.executeAction(action,playerId,handId);
+        playerService.executeAction(action,tableId,playerId,handId);
 
         verify(handService,times(1)).stand(player,handId);
     }
@@ -341,33 +573,60 @@ class PlayerServiceImplTest {
     @Test
     void executeAction_ShouldCallPlayerServiceSurrender_WithActionSurrender() {
         String action = "surrender";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
         when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+        when(tableRegistry.getTable(tableId)).thenReturn(table);
+        when(table.getDealer()).thenReturn(dealer);
 
-        playerService.executeAction(action,playerId,handId);
+        playerService.executeAction(action,tableId,playerId,handId);
 
-        verify(handService,times(1)).surrender(player,handId);
+        verify(handService,times(1)).surrender(dealer,player,handId);
     }
 
     @Test
     void executeAction_ShouldThrowACTION_NOT_ALLOWED_WithActionTest() {
         String action = "test";
+        int tableId = 1;
         int playerId = 1;
         int handId = 1;
         Player player = new Player();
         player.setPlayerId(1);
         player.setName("name");
+        player.setTableId(tableId);
 
-        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.executeAction(action,playerId,handId));
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.executeAction(action,tableId,playerId,handId));
 
         String expectedMessage = String.format(PlayerServiceImpl.ACTION_NOT_ALLOWED,action);
         String actualMessage = exception.getMessage();
 
         assertTrue(actualMessage.contains(expectedMessage));
     }
+
+    @Test
+    void hit_ShouldThrowPLAYER_NOT_AT_TABLE_WhenPlayerIsSeatedAtAnotherTable() {
+        int tableId = 2;
+        int playerId = 1;
+        int handId = 1;
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setTableId(1);
+
+        when(playerRepository.findById(playerId)).thenReturn(Optional.of(player));
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> playerService.hit(tableId,playerId,handId));
+
+        String expectedMessage = String.format(PlayerServiceImpl.PLAYER_NOT_AT_TABLE,playerId,tableId);
+        String actualMessage = exception.getMessage();
+
+        assertTrue(actualMessage.contains(expectedMessage));
+        verifyNoInteractions(handService);
+    }
 }
\ No newline at end of file
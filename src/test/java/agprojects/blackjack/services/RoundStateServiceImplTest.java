@@ -0,0 +1,171 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.DurabilityMode;
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.repositories.HandRepository;
+import agprojects.blackjack.repositories.PlayerRepository;
+import agprojects.blackjack.services.base.TableRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoundStateServiceImplTest {
+
+    @Mock
+    PlayerRepository playerRepository;
+
+    @Mock
+    HandRepository handRepository;
+
+    @Mock
+    TableRegistry tableRegistry;
+
+    @InjectMocks
+    RoundStateServiceImpl roundStateService;
+
+    private final int tableId = 1;
+
+    private Player player;
+
+    @BeforeEach
+    void keepRoundInMemory() {
+        roundStateService.durabilityMode = DurabilityMode.PER_ROUND;
+        player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setTableId(tableId);
+        player.setHands(new ArrayList<>());
+        lenient().when(playerRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("With per action durability every change should be saved right away")
+    void update_ShouldSavePlayer_WhenDurabilityModeIsPerAction() {
+        roundStateService.durabilityMode = DurabilityMode.PER_ACTION;
+
+        roundStateService.update(player);
+
+        verify(playerRepository, times(1)).save(player);
+    }
+
+    @Test
+    @DisplayName("With per round durability actions should only be written when the round ends, all in one batch")
+    void endRound_ShouldSaveChangedPlayersOnce_WhenDurabilityModeIsPerRound() {
+        when(playerRepository.findByTableId(tableId)).thenReturn(Collections.singletonList(player));
+
+        Player livePlayer = roundStateService.getPlayersAtTable(tableId).get(0);
+        roundStateService.update(livePlayer);
+        roundStateService.update(livePlayer);
+        roundStateService.update(livePlayer);
+
+        verify(playerRepository, never()).save(any());
+        verify(playerRepository, never()).saveAll(anyList());
+
+        assertEquals(1, roundStateService.endRound(tableId));
+        assertEquals(0, roundStateService.endRound(tableId));
+        verify(playerRepository, times(1)).saveAll(Collections.singletonList(player));
+    }
+
+    @Test
+    @DisplayName("The players of a table should be loaded once and then read from memory")
+    void getPlayer_ShouldReturnLivePlayer_WhenPlayerIsKeptForTheTable() {
+        when(playerRepository.findByTableId(tableId)).thenReturn(Collections.singletonList(player));
+
+        roundStateService.getPlayersAtTable(tableId);
+        roundStateService.getPlayersAtTable(tableId);
+        Optional<Player> livePlayer = roundStateService.getPlayer(tableId, player.getPlayerId());
+
+        assertSame(player, livePlayer.orElse(null));
+        verify(playerRepository, times(1)).findByTableId(tableId);
+        verify(playerRepository, never()).findById(anyInt());
+    }
+
+    @Test
+    @DisplayName("A checkpoint should write the changed tables on their mailboxes")
+    void checkpoint_ShouldWriteChangedTablesOnTheirMailbox_WhenRoundIsStillPlayed() {
+        when(tableRegistry.execute(anyInt(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        roundStateService.update(player);
+
+        assertEquals(1, roundStateService.checkpoint());
+        assertEquals(0, roundStateService.checkpoint());
+
+        verify(tableRegistry, times(1)).execute(eq(tableId), any());
+        verify(playerRepository, times(1)).saveAll(Collections.singletonList(player));
+    }
+
+    @Test
+    @DisplayName("A table that fails its checkpoint should not stop the other tables from being written")
+    void checkpoint_ShouldWriteOtherTablesAndRetry_WhenOneTableFails() {
+        Player otherPlayer = new Player();
+        otherPlayer.setPlayerId(2);
+        otherPlayer.setName("other");
+        otherPlayer.setTableId(2);
+        otherPlayer.setHands(new ArrayList<>());
+        when(tableRegistry.execute(anyInt(), any())).thenAnswer(invocation -> {
+            if (invocation.<Integer>getArgument(0) == tableId) {
+                throw new IllegalStateException("database is down");
+            }
+            return ((Supplier<?>) invocation.getArgument(1)).get();
+        });
+        roundStateService.update(player);
+        roundStateService.update(otherPlayer);
+
+        assertEquals(1, roundStateService.checkpoint());
+        verify(playerRepository, times(1)).saveAll(Collections.singletonList(otherPlayer));
+
+        when(tableRegistry.execute(anyInt(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+        assertEquals(1, roundStateService.checkpoint());
+        verify(playerRepository, times(1)).saveAll(Collections.singletonList(player));
+    }
+
+    @Test
+    @DisplayName("A player leaving the table should be written right away and no longer be kept")
+    void write_ShouldSaveAndForgetPlayer_WhenPlayerLeavesTheTable() {
+        when(playerRepository.save(player)).thenReturn(player);
+        roundStateService.update(player);
+        player.setTableId(0);
+
+        roundStateService.write(tableId, player);
+
+        verify(playerRepository, times(1)).save(player);
+        assertEquals(0, roundStateService.endRound(tableId));
+        when(playerRepository.findByTableId(tableId)).thenReturn(Collections.emptyList());
+        List<Player> playersAtTable = roundStateService.getPlayersAtTable(tableId);
+        assertTrue(playersAtTable.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Hands that were just dealt or split should get their ids before the round is written")
+    void addNewHands_ShouldSaveOnlyHandsWithoutId_WhenDurabilityModeIsPerRound() {
+        Hand playedHand = new Hand();
+        playedHand.setHandId(7);
+        Hand splitHand = new Hand();
+        player.getHands().add(playedHand);
+        player.getHands().add(splitHand);
+        when(playerRepository.findByTableId(tableId)).thenReturn(Collections.singletonList(player));
+
+        roundStateService.addNewHands(roundStateService.getPlayersAtTable(tableId).get(0));
+
+        verify(handRepository, times(1)).save(splitHand);
+        verify(handRepository, never()).save(playedHand);
+        verify(playerRepository, never()).saveAll(anyList());
+    }
+}
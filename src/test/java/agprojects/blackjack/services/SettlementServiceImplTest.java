@@ -0,0 +1,151 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.Hand;
+import agprojects.blackjack.models.LedgerEntryType;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.card.Card;
+import agprojects.blackjack.models.card.CardType;
+import agprojects.blackjack.repositories.PlayerRepository;
+import agprojects.blackjack.services.base.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementServiceImplTest {
+
+    Card ACE = Card.of(CardType.ACE_OF_CLUBS);
+    Card SEVEN = Card.of(CardType.SEVEN_OF_CLUBS);
+    Card EIGHT = Card.of(CardType.EIGHT_OF_CLUBS);
+    Card NINE = Card.of(CardType.NINE_OF_CLUBS);
+    Card TEN = Card.of(CardType.TEN_OF_CLUBS);
+
+    @Mock
+    PlayerRepository playerRepository;
+
+    @Mock
+    LedgerService ledgerService;
+
+    @Spy
+    WalletServiceImpl walletService = new WalletServiceImpl();
+
+    @Spy
+    RoundStateServiceImpl roundStateService = new RoundStateServiceImpl();
+
+    @InjectMocks
+    SettlementServiceImpl settlementService;
+
+    @BeforeEach
+    void saveEveryAction() {
+        roundStateService.playerRepository = playerRepository;
+    }
+
+    private static Player playerWith(long balance, Hand... hands) {
+        Player player = new Player();
+        player.setPlayerId(1);
+        player.setName("name");
+        player.setBalance(balance);
+        player.setHands(new ArrayList<>(Arrays.asList(hands)));
+        for (Hand hand : hands) {
+            player.setBet(player.getBet() + hand.getHandBet());
+        }
+        return player;
+    }
+
+    private static Hand finishedHand(long bet, Card... cards) {
+        Hand hand = new Hand(cards);
+        hand.setHandBet(bet);
+        hand.setFinished(true);
+        return hand;
+    }
+
+    @Test
+    @DisplayName("Settle should pay win, push, loss, BlackJack and surrender in one pass")
+    void settle_ShouldApplyEveryPayout_WhenHandsAreFinished() {
+        Hand dealersHand = new Hand(TEN, EIGHT);
+        Hand surrendered = finishedHand(10, TEN, SEVEN);
+        surrendered.setSurrendered(true);
+        Player winner = playerWith(0, finishedHand(10, TEN, NINE));
+        Player push = playerWith(0, finishedHand(10, TEN, EIGHT));
+        Player loser = playerWith(0, finishedHand(10, TEN, SEVEN));
+        Player blackJack = playerWith(0, finishedHand(10, ACE, TEN));
+        Player surrender = playerWith(0, surrendered);
+
+        List<Player> settled = settlementService.settle(dealersHand, Arrays.asList(winner, push, loser, blackJack, surrender));
+
+        assertEquals(5, settled.size());
+        assertEquals(20, winner.getBalance());
+        assertEquals(10, push.getBalance());
+        assertEquals(0, loser.getBalance());
+        assertEquals(25, blackJack.getBalance());
+        assertEquals(5, surrender.getBalance());
+        assertEquals(0, winner.getBet());
+        verify(playerRepository, times(1)).saveAll(anyList());
+        verify(ledgerService, times(1)).record(blackJack, LedgerEntryType.PAYOUT, 25);
+        verify(ledgerService, never()).record(loser, LedgerEntryType.PAYOUT, 0);
+    }
+
+    @Test
+    @DisplayName("An odd cent of a 3:2 payout should be rounded down")
+    void settle_ShouldRoundPayoutDown_WhenBlackJackBetIsOdd() {
+        Hand dealersHand = new Hand(TEN, EIGHT);
+        Player player = playerWith(0, finishedHand(1001, ACE, TEN));
+
+        settlementService.settle(dealersHand, Collections.singletonList(player));
+
+        assertEquals(2502, player.getBalance());
+    }
+
+    @Test
+    @DisplayName("A doubled hand should win twice its original bet")
+    void settle_ShouldPayDoubledBet_WhenDoubledHandWins() {
+        Hand dealersHand = new Hand(TEN, SEVEN, TEN);
+        Player player = playerWith(0, finishedHand(20, TEN, ACE, SEVEN));
+
+        settlementService.settle(dealersHand, Collections.singletonList(player));
+
+        assertEquals(40, player.getBalance());
+    }
+
+    @Test
+    @DisplayName("A two card 21 after a split should not be paid as a BlackJack")
+    void settle_ShouldPayEvenMoney_WhenSplitHandHasTwoCard21() {
+        Hand dealersHand = new Hand(TEN, EIGHT);
+        Player player = playerWith(0, finishedHand(10, ACE, TEN), finishedHand(10, ACE, NINE));
+
+        settlementService.settle(dealersHand, Collections.singletonList(player));
+
+        assertEquals(40, player.getBalance());
+    }
+
+    @Test
+    @DisplayName("Hands should never be settled twice")
+    void settle_ShouldSkipSettledAndUnfinishedHands_WhenCalledAgain() {
+        Hand dealersHand = new Hand(TEN, EIGHT);
+        Hand unfinished = new Hand(TEN, SEVEN);
+        Player player = playerWith(0, finishedHand(10, TEN, NINE));
+        Player playing = playerWith(0, unfinished);
+
+        settlementService.settle(dealersHand, Arrays.asList(player, playing));
+        List<Player> settledAgain = settlementService.settle(dealersHand, Arrays.asList(player, playing));
+
+        assertEquals(20, player.getBalance());
+        assertEquals(0, playing.getBalance());
+        assertTrue(settledAgain.isEmpty());
+        verify(playerRepository, times(1)).saveAll(anyList());
+    }
+}
@@ -0,0 +1,91 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.models.ContinuousShuffler;
+import agprojects.blackjack.models.Deck;
+import agprojects.blackjack.models.dto.ShoePoolStatsDTO;
+import agprojects.blackjack.models.rng.RandomStream;
+import agprojects.blackjack.models.rng.RngType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShoeSupplierImplTest {
+
+    @Test
+    void nextShoe_ShouldReturnFullShoe_WithConfiguredNumberOfDecks() {
+        ShoeSupplierImpl shoeSupplier = new ShoeSupplierImpl();
+        shoeSupplier.shuffleService = new ShuffleServiceImpl();
+        shoeSupplier.numberOfDecks = 2;
+        shoeSupplier.start();
+
+        Deck shoe = shoeSupplier.nextShoe(1, RngType.FAST);
+        shoeSupplier.stop();
+
+        assertEquals(104, shoe.getNumberOfCards());
+        assertFalse(shoe.isCutCardReached());
+    }
+
+    @Test
+    void newContinuousShuffler_ShouldDrawFromTheTablesGenerator_WithConfiguredNumberOfDecks() {
+        ShoeSupplierImpl shoeSupplier = new ShoeSupplierImpl();
+        List<RngType> requestedTypes = new ArrayList<>();
+        shoeSupplier.shuffleService = new ShuffleServiceImpl() {
+            @Override
+            public RandomStream newStream(RngType rngType) {
+                requestedTypes.add(rngType);
+                return rngType.create(42);
+            }
+        };
+        shoeSupplier.numberOfDecks = 2;
+
+        ContinuousShuffler shoe = shoeSupplier.newContinuousShuffler(1, RngType.SECURE);
+
+        assertEquals(104, shoe.getNumberOfCards());
+        assertEquals(Collections.singletonList(RngType.SECURE), requestedTypes);
+        assertEquals(42, shoe.getSeed());
+    }
+
+    @Test
+    void nextShoe_ShouldShuffleWithTheGeneratorOfTheTable() {
+        ShoeSupplierImpl shoeSupplier = new ShoeSupplierImpl();
+        List<RngType> requestedTypes = Collections.synchronizedList(new ArrayList<>());
+        shoeSupplier.shuffleService = new ShuffleServiceImpl() {
+            @Override
+            public RandomStream newStream(RngType rngType) {
+                requestedTypes.add(rngType);
+                return rngType.create(42);
+            }
+        };
+        shoeSupplier.poolSize = 1;
+        shoeSupplier.start();
+
+        Deck fastShoe = shoeSupplier.nextShoe(1, RngType.FAST);
+        Deck secureShoe = shoeSupplier.nextShoe(1, RngType.SECURE);
+        shoeSupplier.stop();
+
+        assertEquals(new Deck(6, Deck.DEFAULT_PENETRATION, RngType.FAST.create(42)).getCard(), fastShoe.getCard());
+        assertEquals(new Deck(6, Deck.DEFAULT_PENETRATION, RngType.SECURE.create(42)).getCard(), secureShoe.getCard());
+        assertTrue(requestedTypes.contains(RngType.SECURE));
+    }
+
+    @Test
+    void getStats_ShouldCountEveryShuffledShoe() {
+        ShoeSupplierImpl shoeSupplier = new ShoeSupplierImpl();
+        shoeSupplier.shuffleService = new ShuffleServiceImpl();
+        shoeSupplier.poolSize = 1;
+        shoeSupplier.start();
+
+        shoeSupplier.nextShoe(1, RngType.FAST);
+        shoeSupplier.nextShoe(1, RngType.FAST);
+        ShoePoolStatsDTO stats = shoeSupplier.getStats();
+        shoeSupplier.stop();
+
+        assertEquals(RngType.values().length, stats.getPoolCapacity());
+        assertTrue(stats.getShufflesCompleted() >= 2);
+        assertTrue(stats.getMaxShuffleNanos() > 0);
+    }
+}
@@ -0,0 +1,63 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.dto.SimulationDTO;
+import agprojects.blackjack.models.dto.SimulationRequestDTO;
+import agprojects.blackjack.simulation.SimulationStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationServiceImplTest {
+
+    private SimulationServiceImpl simulationService;
+
+    @BeforeEach
+    void setUp() {
+        simulationService = new SimulationServiceImpl();
+        simulationService.parallelism = 1;
+        simulationService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.stop();
+    }
+
+    private SimulationDTO startAndWait() throws InterruptedException {
+        SimulationRequestDTO request = new SimulationRequestDTO();
+        request.setRounds(100);
+        request.setSeed(42L);
+        SimulationDTO simulation = simulationService.startSimulation(request);
+        while (simulationService.getSimulation(simulation.getId()).getStatus() == SimulationStatus.RUNNING) {
+            Thread.sleep(1);
+        }
+        return simulation;
+    }
+
+    @Test
+    @DisplayName("A finished simulation should be removed once its retention has passed")
+    void getSimulation_ShouldThrowSIMULATION_NOT_FOUND_WhenRetentionHasPassed() throws InterruptedException {
+        SimulationDTO simulation = startAndWait();
+        simulationService.retentionMillis = 0;
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> simulationService.getSimulation(simulation.getId()));
+
+        assertEquals(String.format(SimulationServiceImpl.SIMULATION_NOT_FOUND, simulation.getId()), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("The oldest finished simulation should make room when the job limit is reached")
+    void startSimulation_ShouldEvictOldestFinishedJob_WhenMaxJobsIsReached() throws InterruptedException {
+        simulationService.maxJobs = 1;
+        SimulationDTO first = startAndWait();
+
+        SimulationDTO second = startAndWait();
+
+        assertThrows(ApiRequestException.class, () -> simulationService.getSimulation(first.getId()));
+        assertEquals(SimulationStatus.COMPLETED, simulationService.getSimulation(second.getId()).getStatus());
+    }
+}
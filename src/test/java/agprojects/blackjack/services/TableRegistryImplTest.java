@@ -0,0 +1,204 @@
+package agprojects.blackjack.services;
+
+import agprojects.blackjack.exceptions.ApiRequestException;
+import agprojects.blackjack.models.Player;
+import agprojects.blackjack.models.ShoeMode;
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.Table;
+import agprojects.blackjack.models.rng.RngType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableRegistryImplTest {
+
+    private TableRegistryImpl tableRegistry;
+
+    private ShoeSupplierImpl shoeSupplier;
+
+    @BeforeEach
+    void setUp() {
+        shoeSupplier = new ShoeSupplierImpl();
+        shoeSupplier.shuffleService = new ShuffleServiceImpl();
+        shoeSupplier.start();
+        tableRegistry = new TableRegistryImpl();
+        tableRegistry.shoeSupplier = shoeSupplier;
+        tableRegistry.initialTables = 0;
+        tableRegistry.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tableRegistry.stop();
+        shoeSupplier.stop();
+    }
+
+    @Test
+    @DisplayName("Every table should get its own dealer and shoe")
+    void createTable_ShouldCreateIndependentDealers_WhenCalledTwice() {
+        Table first = tableRegistry.createTable(null, null, null);
+        Table second = tableRegistry.createTable(Soft17Rule.HIT, ShoeMode.CONTINUOUS, RngType.SECURE);
+
+        assertNotEquals(first.getTableId(), second.getTableId());
+        assertNotSame(first.getDealer(), second.getDealer());
+        assertNotSame(first.getDealer().getShoe(), second.getDealer().getShoe());
+        assertEquals(Soft17Rule.STAND, first.getDealer().getSoft17Rule());
+        assertEquals(ShoeMode.CLASSIC, first.getDealer().getShoeMode());
+        assertEquals(Soft17Rule.HIT, second.getDealer().getSoft17Rule());
+        assertEquals(ShoeMode.CONTINUOUS, second.getDealer().getShoeMode());
+        assertEquals(RngType.FAST, first.getRngType());
+        assertEquals(RngType.SECURE, second.getRngType());
+        assertSame(second, tableRegistry.getTable(second.getTableId()));
+    }
+
+    @Test
+    @DisplayName("getTable should throw when the table does not exist")
+    void getTable_ShouldThrowTABLE_NOT_FOUND_WhenTableDoesNotExist() {
+        Exception exception = assertThrows(ApiRequestException.class, () -> tableRegistry.getTable(42));
+
+        assertEquals(String.format(TableRegistryImpl.TABLE_NOT_FOUND, 42), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("A table with seated players should not be closed")
+    void closeTable_ShouldThrowTABLE_HAS_PLAYERS_WhenASeatIsTaken() {
+        Table table = tableRegistry.createTable(null, null, null);
+        Player player = new Player();
+        player.setName("name");
+        table.sitPlayer(1, player);
+
+        assertThrows(ApiRequestException.class, () -> tableRegistry.closeTable(table.getTableId()));
+        assertEquals(table.getTableId(), player.getTableId());
+    }
+
+    @Test
+    @DisplayName("A closed table should no longer be found")
+    void closeTable_ShouldRemoveTable_WhenTableIsEmpty() {
+        Table table = tableRegistry.createTable(null, null, null);
+
+        tableRegistry.closeTable(table.getTableId());
+
+        assertThrows(ApiRequestException.class, () -> tableRegistry.getTable(table.getTableId()));
+        assertTrue(tableRegistry.getTables().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tables opened at the same time should never exceed the table limit")
+    void createTable_ShouldNotExceedMaxTables_WhenCalledFromManyThreads() throws Exception {
+        tableRegistry.maxTables = 3;
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(callers.submit(() -> {
+                start.await();
+                try {
+                    tableRegistry.createTable(null, null, null);
+                    return true;
+                } catch (ApiRequestException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+        int created = 0;
+        for (Future<Boolean> call : calls) {
+            created += call.get() ? 1 : 0;
+        }
+        callers.shutdown();
+
+        assertEquals(3, created);
+        assertEquals(3, tableRegistry.getTables().size());
+
+        tableRegistry.closeTable(tableRegistry.getTables().iterator().next().getTableId());
+        tableRegistry.createTable(null, null, null);
+        assertEquals(3, tableRegistry.getTables().size());
+    }
+
+    @Test
+    @DisplayName("Commands for one table should run one at a time in the order they were submitted")
+    void execute_ShouldRunCommandsOneAtATime_WhenSubmittedFromManyThreads() throws Exception {
+        Table table = tableRegistry.createTable(null, null, null);
+        int[] counter = new int[1];
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            calls.add(callers.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    tableRegistry.execute(table.getTableId(), () -> counter[0]++);
+                }
+            }));
+        }
+        for (Future<?> call : calls) {
+            call.get();
+        }
+        callers.shutdown();
+
+        assertEquals(8000, (int) tableRegistry.execute(table.getTableId(), () -> counter[0]));
+    }
+
+    @Test
+    @DisplayName("A command should be able to run nested commands for the same table")
+    void execute_ShouldRunNestedCommandDirectly_WhenAlreadyOnTheTable() {
+        Table table = tableRegistry.createTable(null, null, null);
+
+        String result = tableRegistry.execute(table.getTableId(),
+                () -> tableRegistry.execute(table.getTableId(), () -> Thread.currentThread().getName()));
+
+        assertTrue(result.startsWith("table-worker-"));
+    }
+
+    @Test
+    @DisplayName("An exception thrown by a command should reach the caller")
+    void execute_ShouldRethrowException_WhenCommandFails() {
+        Table table = tableRegistry.createTable(null, null, null);
+
+        Exception exception = assertThrows(ApiRequestException.class, () -> tableRegistry.execute(table.getTableId(), () -> {
+            throw new ApiRequestException("failed");
+        }));
+
+        assertEquals("failed", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("A command that timed out while queued should never run")
+    void execute_ShouldNeverRunCommand_WhenItTimedOutInTheQueue() throws Exception {
+        Table table = tableRegistry.createTable(null, null, null);
+        tableRegistry.commandTimeoutMillis = 100;
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicBoolean lateCommandRan = new AtomicBoolean();
+        ExecutorService caller = Executors.newSingleThreadExecutor();
+        Future<?> blocker = caller.submit(() -> tableRegistry.execute(table.getTableId(), () -> {
+            blocking.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        blocking.await();
+
+        Exception exception = assertThrows(ApiRequestException.class,
+                () -> tableRegistry.execute(table.getTableId(), () -> lateCommandRan.getAndSet(true)));
+        release.countDown();
+        blocker.get();
+        caller.shutdown();
+        tableRegistry.commandTimeoutMillis = 5000;
+
+        assertEquals(String.format(TableRegistryImpl.TABLE_BUSY, table.getTableId()), exception.getMessage());
+        assertFalse(tableRegistry.execute(table.getTableId(), lateCommandRan::get));
+    }
+}
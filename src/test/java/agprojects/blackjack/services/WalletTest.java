@@ -0,0 +1,118 @@
+package agprojects.blackjack.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalletTest {
+
+    @Test
+    @DisplayName("A reservation should be taken from the balance")
+    void tryReserve_ShouldTakeAmountFromBalance_WhenBalanceIsEnough() {
+        Wallet wallet = new Wallet(1000, 4);
+
+        assertTrue(wallet.tryReserve(300));
+
+        assertEquals(700, wallet.getAvailable());
+        assertEquals(300, wallet.getReserved());
+    }
+
+    @Test
+    @DisplayName("A reservation larger than the balance should leave the balance untouched")
+    void tryReserve_ShouldReturnFalse_WhenBalanceIsNotEnough() {
+        Wallet wallet = new Wallet(1000, 4);
+
+        assertFalse(wallet.tryReserve(1001));
+
+        assertEquals(1000, wallet.getAvailable());
+        assertEquals(0, wallet.getReserved());
+    }
+
+    @Test
+    @DisplayName("A reservation that is not positive should be rejected")
+    void tryReserve_ShouldThrow_WhenAmountIsNotPositive() {
+        Wallet wallet = new Wallet(1000, 4);
+
+        assertThrows(IllegalArgumentException.class, () -> wallet.tryReserve(-100));
+        assertThrows(IllegalArgumentException.class, () -> wallet.tryReserve(0));
+
+        assertEquals(1000, wallet.getAvailable());
+        assertEquals(0, wallet.getReserved());
+    }
+
+    @Test
+    @DisplayName("A reservation should gather money that is spread over several stripes")
+    void tryReserve_ShouldGatherFromAllStripes_WhenHomeStripeIsNotEnough() {
+        Wallet wallet = new Wallet(0, 4);
+        List<Thread> creditors = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            creditors.add(new Thread(() -> wallet.credit(100)));
+        }
+        creditors.forEach(Thread::start);
+        creditors.forEach(creditor -> {
+            try {
+                creditor.join();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(wallet.tryReserve(800));
+
+        assertEquals(0, wallet.getAvailable());
+    }
+
+    @Test
+    @DisplayName("Settling should release the stake and add the payout")
+    void settle_ShouldAddPayoutAndReleaseStake_WhenHandIsSettled() {
+        Wallet wallet = new Wallet(1000, 4);
+        wallet.tryReserve(100);
+
+        wallet.settle(100, 200);
+
+        assertEquals(1100, wallet.getAvailable());
+        assertEquals(0, wallet.getReserved());
+    }
+
+    @Test
+    @DisplayName("Concurrent bets should never overdraw the balance")
+    void tryReserve_ShouldNeverOverdraw_WhenBetsAreConcurrent() throws Exception {
+        Wallet wallet = new Wallet(10_000, 4);
+        int numberOfTables = 8;
+        ExecutorService tables = Executors.newFixedThreadPool(numberOfTables);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < numberOfTables; i++) {
+            results.add(tables.submit(() -> {
+                start.await();
+                int accepted = 0;
+                for (int bet = 0; bet < 1000; bet++) {
+                    if (wallet.tryReserve(7)) {
+                        accepted++;
+                    }
+                }
+                return accepted;
+            }));
+        }
+        start.countDown();
+
+        long reserved = 0;
+        for (Future<Integer> result : results) {
+            reserved += result.get() * 7L;
+        }
+        tables.shutdown();
+
+        assertTrue(reserved <= 10_000);
+        assertTrue(wallet.getAvailable() >= 0);
+        assertEquals(10_000, reserved + wallet.getAvailable());
+        assertEquals(reserved, wallet.getReserved());
+    }
+}
@@ -0,0 +1,73 @@
+package agprojects.blackjack.simulation;
+
+import agprojects.blackjack.models.Soft17Rule;
+import agprojects.blackjack.models.rng.RngType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationJobTest {
+
+    private static final long ROUNDS = 20_000;
+
+    /**
+     * Enough rounds for the house edge to be within a tenth of a percent, only run by the statisticalTest task.
+     */
+    private static final long STATISTICAL_ROUNDS = 1_000_000;
+
+    private static SimulationRules sixDeckRules(Soft17Rule soft17Rule, double blackJackPayout) {
+        return new SimulationRules(6, 0.75, soft17Rule, blackJackPayout, true, true, 4, RngType.FAST);
+    }
+
+    private static SimulationJob run(SimulationRules rules, long seed) {
+        return run(rules, seed, ROUNDS);
+    }
+
+    private static SimulationJob run(SimulationRules rules, long seed, long rounds) {
+        SimulationJob job = new SimulationJob(1, rules, rounds, seed);
+        job.run();
+        return job;
+    }
+
+    @Test
+    @DisplayName("Simulation should play every round and complete")
+    void run_ShouldCompleteAllRounds_WithDefaultRules() {
+        SimulationJob job = run(sixDeckRules(Soft17Rule.STAND, 1.5), 42);
+
+        assertEquals(SimulationStatus.COMPLETED, job.getStatus());
+        assertEquals(ROUNDS, job.getRoundsCompleted());
+        assertEquals(ROUNDS, job.getResult().getRounds());
+    }
+
+    @Test
+    @Tag("statistical")
+    @DisplayName("House edge of a 6 deck S17 game should be close to half a percent")
+    void run_ShouldEstimateKnownHouseEdge_WithSixDeckStandOnSoft17() {
+        SimulationTally result = run(sixDeckRules(Soft17Rule.STAND, 1.5), 42, STATISTICAL_ROUNDS).getResult();
+
+        assertEquals(0.004, result.getHouseEdge(), 0.006);
+        assertEquals(0.0475, result.getPlayerBlackJackFrequency(), 0.002);
+        assertEquals(1.3, result.getVariance(), 0.1);
+    }
+
+    @Test
+    @DisplayName("A 6:5 BlackJack payout should cost the player more than a 3:2 payout")
+    void run_ShouldIncreaseHouseEdge_WithSixToFivePayout() {
+        double threeToTwo = run(sixDeckRules(Soft17Rule.STAND, 1.5), 7).getResult().getHouseEdge();
+        double sixToFive = run(sixDeckRules(Soft17Rule.STAND, 1.2), 7).getResult().getHouseEdge();
+
+        assertTrue(sixToFive > threeToTwo);
+    }
+
+    @Test
+    @DisplayName("The same seed should give the same result")
+    void run_ShouldReturnSameResult_WithSameSeed() {
+        SimulationTally first = run(sixDeckRules(Soft17Rule.HIT, 1.5), 99).getResult();
+        SimulationTally second = run(sixDeckRules(Soft17Rule.HIT, 1.5), 99).getResult();
+
+        assertEquals(first.getHouseEdge(), second.getHouseEdge());
+        assertEquals(first.getHandsPlayed(), second.getHandsPlayed());
+    }
+}